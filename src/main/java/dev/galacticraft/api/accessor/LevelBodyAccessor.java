@@ -23,6 +23,7 @@
 package dev.galacticraft.api.accessor;
 
 import dev.galacticraft.api.universe.celestialbody.CelestialBody;
+import dev.galacticraft.api.universe.celestialbody.LevelEnvironment;
 import net.minecraft.core.Holder;
 import org.jetbrains.annotations.Nullable;
 
@@ -30,4 +31,11 @@ public interface LevelBodyAccessor {
     default @Nullable Holder<CelestialBody<?, ?>> galacticraft$getCelestialBody() {
         throw new RuntimeException("This should be overridden by mixin!");
     }
+
+    /**
+     * {@return a snapshot of the environment of this level's celestial body, or the default environment if there is none}
+     */
+    default LevelEnvironment galacticraft$getEnvironment() {
+        throw new RuntimeException("This should be overridden by mixin!");
+    }
 }
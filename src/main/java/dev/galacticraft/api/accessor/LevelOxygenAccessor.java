@@ -22,8 +22,10 @@
 
 package dev.galacticraft.api.accessor;
 
+import it.unimi.dsi.fastutil.longs.LongCollection;
 import net.minecraft.core.BlockPos;
 import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
 
 public interface LevelOxygenAccessor {
     /**
@@ -55,4 +57,28 @@ default void setBreathable(int x, int y, int z, boolean value) {
     default void setBreathableChunk(LevelChunk chunk, int x, int y, int z, boolean value) {
         throw new RuntimeException("This should be overridden by mixin!");
     }
+
+    /**
+     * Sets the breathable state of every position in a box.
+     * Writes are applied one chunk section at a time, which is much cheaper than setting each position individually.
+     * Positions outside the level are ignored.
+     *
+     * @param box the positions to modify
+     * @param value whether the positions are breathable
+     */
+    default void setBreathable(BoundingBox box, boolean value) {
+        throw new RuntimeException("This should be overridden by mixin!");
+    }
+
+    /**
+     * Sets the breathable state of many positions at once.
+     * Writes are grouped by chunk section, which is much cheaper than setting each position individually.
+     * Positions outside the level are ignored.
+     *
+     * @param positions the packed positions to modify (see {@link BlockPos#asLong()})
+     * @param value whether the positions are breathable
+     */
+    default void setBreathable(LongCollection positions, boolean value) {
+        throw new RuntimeException("This should be overridden by mixin!");
+    }
 }
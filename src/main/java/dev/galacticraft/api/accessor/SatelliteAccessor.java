@@ -23,7 +23,6 @@
 package dev.galacticraft.api.accessor;
 
 import dev.galacticraft.api.universe.celestialbody.CelestialBody;
-import dev.galacticraft.dynamicdimensions.api.event.DynamicDimensionLoadCallback;
 import dev.galacticraft.impl.universe.celestialbody.type.SatelliteType;
 import dev.galacticraft.impl.universe.position.config.SatelliteConfig;
 import net.minecraft.resources.ResourceLocation;
@@ -36,6 +35,4 @@ public interface SatelliteAccessor {
     void galacticraft$addSatellite(ResourceLocation id, CelestialBody<SatelliteConfig, SatelliteType> satellite);
 
     void galacticraft$removeSatellite(ResourceLocation id);
-
-    void galacticraft$loadSatellites(DynamicDimensionLoadCallback.DynamicDimensionLoader dynamicDimensionLoader);
 }
@@ -25,6 +25,7 @@
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 import dev.galacticraft.api.component.GCDataComponents;
+import dev.galacticraft.api.registry.RocketRegistries;
 import dev.galacticraft.api.rocket.part.*;
 import dev.galacticraft.api.rocket.travelpredicate.TravelPredicateType;
 import dev.galacticraft.api.universe.celestialbody.CelestialBody;
@@ -35,7 +36,6 @@
 import net.minecraft.core.component.DataComponentPatch;
 import net.minecraft.core.component.DataComponentType;
 import net.minecraft.network.RegistryFriendlyByteBuf;
-import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.util.FastColor;
@@ -69,7 +69,45 @@ public RocketData(@Nullable EitherHolder<RocketCone<?, ?>> cone, @Nullable Eithe
             Codec.INT.fieldOf("color").forGetter(RocketData::color)
             ).apply(instance, RocketData::new));
 
-    public static final StreamCodec<RegistryFriendlyByteBuf, RocketData> STREAM_CODEC = ByteBufCodecs.fromCodecWithRegistriesTrusted(CODEC);
+    private static final StreamCodec<RegistryFriendlyByteBuf, EitherHolder<RocketCone<?, ?>>> CONE_STREAM_CODEC = StreamCodecs.ofEitherHolder(RocketRegistries.ROCKET_CONE);
+    private static final StreamCodec<RegistryFriendlyByteBuf, EitherHolder<RocketBody<?, ?>>> BODY_STREAM_CODEC = StreamCodecs.ofEitherHolder(RocketRegistries.ROCKET_BODY);
+    private static final StreamCodec<RegistryFriendlyByteBuf, EitherHolder<RocketFin<?, ?>>> FIN_STREAM_CODEC = StreamCodecs.ofEitherHolder(RocketRegistries.ROCKET_FIN);
+    private static final StreamCodec<RegistryFriendlyByteBuf, EitherHolder<RocketBooster<?, ?>>> BOOSTER_STREAM_CODEC = StreamCodecs.ofEitherHolder(RocketRegistries.ROCKET_BOOSTER);
+    private static final StreamCodec<RegistryFriendlyByteBuf, EitherHolder<RocketEngine<?, ?>>> ENGINE_STREAM_CODEC = StreamCodecs.ofEitherHolder(RocketRegistries.ROCKET_ENGINE);
+    private static final StreamCodec<RegistryFriendlyByteBuf, EitherHolder<RocketUpgrade<?, ?>>> UPGRADE_STREAM_CODEC = StreamCodecs.ofEitherHolder(RocketRegistries.ROCKET_UPGRADE);
+
+    /**
+     * A byte with one bit per present part, followed by the present parts (as network ids where possible) and the color.
+     */
+    public static final StreamCodec<RegistryFriendlyByteBuf, RocketData> STREAM_CODEC = StreamCodec.of(
+            (buf, data) -> {
+                buf.writeByte((data.cone.isPresent() ? 1 : 0)
+                        | (data.body.isPresent() ? 1 << 1 : 0)
+                        | (data.fin.isPresent() ? 1 << 2 : 0)
+                        | (data.booster.isPresent() ? 1 << 3 : 0)
+                        | (data.engine.isPresent() ? 1 << 4 : 0)
+                        | (data.upgrade.isPresent() ? 1 << 5 : 0));
+                data.cone.ifPresent(cone -> CONE_STREAM_CODEC.encode(buf, cone));
+                data.body.ifPresent(body -> BODY_STREAM_CODEC.encode(buf, body));
+                data.fin.ifPresent(fin -> FIN_STREAM_CODEC.encode(buf, fin));
+                data.booster.ifPresent(booster -> BOOSTER_STREAM_CODEC.encode(buf, booster));
+                data.engine.ifPresent(engine -> ENGINE_STREAM_CODEC.encode(buf, engine));
+                data.upgrade.ifPresent(upgrade -> UPGRADE_STREAM_CODEC.encode(buf, upgrade));
+                buf.writeInt(data.color);
+            },
+            buf -> {
+                byte present = buf.readByte();
+                return new RocketData(
+                        (present & 1) != 0 ? Optional.of(CONE_STREAM_CODEC.decode(buf)) : Optional.empty(),
+                        (present & 1 << 1) != 0 ? Optional.of(BODY_STREAM_CODEC.decode(buf)) : Optional.empty(),
+                        (present & 1 << 2) != 0 ? Optional.of(FIN_STREAM_CODEC.decode(buf)) : Optional.empty(),
+                        (present & 1 << 3) != 0 ? Optional.of(BOOSTER_STREAM_CODEC.decode(buf)) : Optional.empty(),
+                        (present & 1 << 4) != 0 ? Optional.of(ENGINE_STREAM_CODEC.decode(buf)) : Optional.empty(),
+                        (present & 1 << 5) != 0 ? Optional.of(UPGRADE_STREAM_CODEC.decode(buf)) : Optional.empty(),
+                        buf.readInt()
+                );
+            }
+    );
 
     @Contract("_, _, _, _, _, _, _ -> new")
     static @NotNull RocketData create(int color, @Nullable Holder<RocketCone<?, ?>> cone, @Nullable Holder<RocketBody<?, ?>> body,
@@ -56,8 +56,7 @@ public static double getGravity(Entity entity) {
     }
 
     public static double modifyGravity(Level level, double d) {
-        Holder<CelestialBody<?, ?>> holder = level.galacticraft$getCelestialBody();
-        return holder != null ? holder.value().gravity() * d : d;
+        return level.galacticraft$getEnvironment().gravity() * d;
     }
 
     /**
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2019-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.galacticraft.api.universe.celestialbody;
+
+import dev.galacticraft.api.gas.GasComposition;
+import net.minecraft.core.Holder;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An immutable snapshot of the environment of a level's celestial body, so that hot paths (entity gravity, machine
+ * ticks) read plain fields instead of dispatching through the celestial body type and config every time.
+ *
+ * @param gravity the gravity multiplier of the level
+ * @param dayLength the length of a day in ticks
+ * @param breathable whether the atmosphere is breathable by default
+ * @param temperature the temperature of the atmosphere
+ * @param pressure the pressure of the atmosphere
+ * @see dev.galacticraft.api.accessor.LevelBodyAccessor#galacticraft$getEnvironment()
+ */
+public record LevelEnvironment(float gravity, long dayLength, boolean breathable, double temperature, float pressure) {
+    /**
+     * The environment of levels that are not associated with a celestial body.
+     */
+    public static final LevelEnvironment DEFAULT = new LevelEnvironment(1.0f, 24000L, true, 15.0, 1.0f);
+
+    @Contract("null -> !null")
+    public static @NotNull LevelEnvironment of(@Nullable Holder<CelestialBody<?, ?>> holder) {
+        if (holder == null) return DEFAULT;
+        CelestialBody<?, ?> body = holder.value();
+        GasComposition atmosphere = body.atmosphere();
+        return new LevelEnvironment(body.gravity(), body.dayLength(), atmosphere.breathable(), atmosphere.temperature(), atmosphere.pressure());
+    }
+}
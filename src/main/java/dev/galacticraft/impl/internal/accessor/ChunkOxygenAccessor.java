@@ -42,4 +42,14 @@ public interface ChunkOxygenAccessor {
      * @param inverted whether the supplied position is breathable
      */
     void galacticraft$setInverted(int x, int y, int z, boolean inverted);
+
+    /**
+     * Sets the inverted state of every position of a section selected by a mask
+     *
+     * @param sectionIndex the index of the section in the chunk
+     * @param mask     the positions to set, as {@link dev.galacticraft.impl.internal.oxygen.SectionOxygenStore#WORDS} words
+     *                 indexed by {@code x + (y << 4) + (z << 8)}
+     * @param inverted whether the selected positions are breathable
+     */
+    void galacticraft$setInverted(int sectionIndex, long[] mask, boolean inverted);
 }
@@ -109,14 +109,7 @@ private static int setOxygenArea(CommandContext<CommandSourceStack> context) thr
         LevelOxygenAccessor accessor = context.getSource().getLevel();
         BoundingBox box = BoundingBox.fromCorners(startPos, endPos);
         boolean b = BoolArgumentType.getBool(context, "oxygen");
-        BlockPos.MutableBlockPos mutable = new BlockPos.MutableBlockPos();
-        for (int x = box.minX(); x <= box.maxX(); x++) {
-            for (int y = box.minX(); y <= box.maxX(); y++) {
-                for (int z = box.minX(); z <= box.maxX(); z++) {
-                    accessor.setBreathable(mutable.set(x, y, z), b);
-                }
-            }
-        }
+        accessor.setBreathable(box, b);
 
         context.getSource().sendSuccess(() -> Component.translatable(Translations.SetOxygen.SUCCESS_MULTIPLE), true);
         return 1;
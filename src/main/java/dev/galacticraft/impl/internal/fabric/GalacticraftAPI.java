@@ -22,7 +22,6 @@
 
 package dev.galacticraft.impl.internal.fabric;
 
-import dev.galacticraft.api.accessor.SatelliteAccessor;
 import dev.galacticraft.api.entity.attribute.GcApiEntityAttributes;
 import dev.galacticraft.api.gas.Gases;
 import dev.galacticraft.api.registry.AddonRegistries;
@@ -32,7 +31,6 @@
 import dev.galacticraft.api.universe.celestialbody.CelestialBody;
 import dev.galacticraft.api.universe.celestialbody.landable.teleporter.CelestialTeleporter;
 import dev.galacticraft.api.universe.galaxy.Galaxy;
-import dev.galacticraft.dynamicdimensions.api.event.DynamicDimensionLoadCallback;
 import dev.galacticraft.impl.internal.command.GCApiCommands;
 import dev.galacticraft.impl.network.GCApiPackets;
 import dev.galacticraft.impl.network.GCApiServerPacketReceivers;
@@ -73,10 +71,6 @@ public void onInitialize() {
         BuiltInRocketRegistries.initialize();
         GcApiEntityAttributes.init();
 
-        DynamicDimensionLoadCallback.register((minecraftServer, dynamicDimensionLoader) -> {
-            ((SatelliteAccessor) minecraftServer).galacticraft$loadSatellites(dynamicDimensionLoader);
-        });
-
         // todo: update celestial body level cache
         DynamicRegistrySetupCallback.EVENT.register(view -> {
             view.registerEntryAdded(AddonRegistries.CELESTIAL_BODY, (rawId, id, object) -> {
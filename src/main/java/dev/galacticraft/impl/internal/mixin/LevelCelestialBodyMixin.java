@@ -25,6 +25,7 @@
 import dev.galacticraft.api.accessor.LevelBodyAccessor;
 import dev.galacticraft.api.registry.AddonRegistries;
 import dev.galacticraft.api.universe.celestialbody.CelestialBody;
+import dev.galacticraft.api.universe.celestialbody.LevelEnvironment;
 import dev.galacticraft.api.universe.celestialbody.landable.Landable;
 import net.minecraft.core.Holder;
 import net.minecraft.core.RegistryAccess;
@@ -46,6 +47,8 @@
 public class LevelCelestialBodyMixin implements LevelBodyAccessor {
     @Unique
     private Holder<CelestialBody<? ,?>> celestialBody = null;
+    @Unique
+    private LevelEnvironment environment = LevelEnvironment.DEFAULT;
 
     @Inject(method = "<init>(Lnet/minecraft/world/level/storage/WritableLevelData;Lnet/minecraft/resources/ResourceKey;Lnet/minecraft/core/RegistryAccess;Lnet/minecraft/core/Holder;Ljava/util/function/Supplier;ZZJI)V", at = @At("RETURN"))
     private void init(WritableLevelData writableLevelData,
@@ -60,10 +63,16 @@ private void init(WritableLevelData writableLevelData,
         this.celestialBody = registryAccess.registryOrThrow(AddonRegistries.CELESTIAL_BODY).holders().filter(
                 b -> b.value().type() instanceof Landable landable && landable.world(b.value().config()).equals(levelKey)
         ).findFirst().orElse(null);
+        this.environment = LevelEnvironment.of(this.celestialBody);
     }
 
     @Override
     public @Nullable Holder<CelestialBody<?, ?>> galacticraft$getCelestialBody() {
         return this.celestialBody;
     }
+
+    @Override
+    public LevelEnvironment galacticraft$getEnvironment() {
+        return this.environment;
+    }
 }
@@ -22,22 +22,27 @@
 
 package dev.galacticraft.impl.internal.mixin;
 
-import com.google.common.collect.ImmutableMap;
-import com.mojang.datafixers.util.Pair;
-import com.mojang.serialization.DataResult;
 import dev.galacticraft.api.accessor.SatelliteAccessor;
 import dev.galacticraft.api.universe.celestialbody.CelestialBody;
-import dev.galacticraft.dynamicdimensions.api.event.DynamicDimensionLoadCallback;
+import dev.galacticraft.dynamicdimensions.api.DynamicDimensionRegistry;
+import dev.galacticraft.impl.satellite.SatelliteStorage;
 import dev.galacticraft.impl.universe.celestialbody.type.SatelliteType;
 import dev.galacticraft.impl.universe.position.config.SatelliteConfig;
 import dev.galacticraft.mod.Constant;
-import net.fabricmc.fabric.api.util.NbtType;
-import net.minecraft.nbt.*;
+import dev.galacticraft.mod.Galacticraft;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.minecraft.SharedConstants;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.resources.ResourceKey;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.Level;
 import net.minecraft.world.level.dimension.LevelStem;
 import net.minecraft.world.level.storage.LevelResource;
 import net.minecraft.world.level.storage.LevelStorageSource;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.Unmodifiable;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
@@ -48,77 +53,106 @@
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.function.BooleanSupplier;
 
 @Mixin(MinecraftServer.class)
 public abstract class MinecraftServerMixin implements SatelliteAccessor {
-    @Unique private final Map<ResourceLocation, CelestialBody<SatelliteConfig, SatelliteType>> satellites = new HashMap<>();
+    /**
+     * How often (in ticks) loaded satellites are checked for players and force-loaded chunks.
+     */
+    @Unique private static final int SATELLITE_IDLE_CHECK_INTERVAL = 100;
+
+    @Unique private final SatelliteStorage satellites = new SatelliteStorage();
+    @Unique private final Object2IntMap<ResourceLocation> satelliteIdleSince = new Object2IntOpenHashMap<>();
+    @Unique private boolean materializingSatellite = false;
 
     @Shadow @Final protected LevelStorageSource.LevelStorageAccess storageSource;
+    @Shadow @Final private Map<ResourceKey<Level>, ServerLevel> levels;
+    @Shadow private int tickCount;
 
     @Override
     public @Unmodifiable Map<ResourceLocation, CelestialBody<SatelliteConfig, SatelliteType>> galacticraft$getSatellites() {
-        return ImmutableMap.copyOf(this.satellites);
+        return this.satellites.view();
     }
 
     @Override
     public void galacticraft$addSatellite(ResourceLocation id, CelestialBody<SatelliteConfig, SatelliteType> satellite) {
-        this.satellites.put(id, satellite);
+        this.satellites.add(id, satellite);
     }
 
     @Override
     public void galacticraft$removeSatellite(ResourceLocation id) {
         this.satellites.remove(id);
+        this.satelliteIdleSince.removeInt(id);
     }
 
     @Inject(method = "saveEverything", at = @At("RETURN"))
-    private void galacticraft_saveSatellites(boolean suppressLogs, boolean bl, boolean bl2, CallbackInfoReturnable<Boolean> cir) {
-        Path path = this.storageSource.getLevelPath(LevelResource.ROOT);
-        ListTag nbt = new ListTag();
-        for (Map.Entry<ResourceLocation, CelestialBody<SatelliteConfig, SatelliteType>> entry : this.satellites.entrySet()) {
-            CompoundTag compound = (CompoundTag) SatelliteConfig.CODEC.encode(entry.getValue().config(), NbtOps.INSTANCE, new CompoundTag()).getOrThrow();
-            compound.putString("id", entry.getKey().toString());
-            nbt.add(compound);
-        }
-        CompoundTag compound = new CompoundTag();
-        compound.put("satellites", nbt);
-        try {
-            NbtIo.writeCompressed(compound, path.resolve("satellites.dat"));
-        } catch (Throwable exception) {
-            Constant.LOGGER.fatal("Failed to write satellite data!", exception);
-        }
+    private void galacticraft_saveSatellites(boolean suppressLogs, boolean flush, boolean force, CallbackInfoReturnable<Boolean> cir) {
+        this.satellites.save(flush);
+    }
+
+    @Inject(method = "stopServer", at = @At("TAIL"))
+    private void galacticraft_flushSatellites(CallbackInfo ci) {
+        this.satellites.save(true);
     }
 
     @Inject(method = "runServer", at = @At(value = "INVOKE", target = "Lnet/minecraft/server/MinecraftServer;initServer()Z", shift = At.Shift.AFTER))
     private void galacticraft_loadSatellites(CallbackInfo ci) {
-        Path worldFile = this.storageSource.getLevelPath(LevelResource.ROOT);
-        if (Files.exists(worldFile.resolve("satellites.dat"))) {
-            try {
-                ListTag nbt = NbtIo.readCompressed(worldFile.resolve("satellites.dat"), NbtAccounter.unlimitedHeap()).getList("satellites", NbtType.COMPOUND);
-                for (Tag compound : nbt) {
-                    assert compound instanceof CompoundTag : "Not a compound?!";
-                    ResourceLocation id = ResourceLocation.parse(((CompoundTag) compound).getString("id"));
-                    DataResult<Pair<SatelliteConfig, Tag>> decode = SatelliteConfig.CODEC.decode(NbtOps.INSTANCE, compound);
-                    if (decode.error().isPresent()) {
-                        Constant.LOGGER.error("Skipping satellite '{}' - {}", id, decode.error().get().message());
-                        continue;
-                    }
-                    this.satellites.put(id, new CelestialBody<>(SatelliteType.INSTANCE, decode.getOrThrow().getFirst()));
-                }
-            } catch (Throwable exception) {
-                throw new RuntimeException("Failed to read satellite data!", exception);
+        this.satellites.load(this.storageSource.getLevelPath(LevelResource.ROOT));
+    }
+
+    @Inject(method = "getLevel", at = @At("RETURN"), cancellable = true)
+    private void galacticraft_materializeSatellite(ResourceKey<Level> key, CallbackInfoReturnable<ServerLevel> cir) {
+        if (cir.getReturnValue() == null && !this.materializingSatellite) {
+            CelestialBody<SatelliteConfig, SatelliteType> satellite = this.satellites.view().get(key.location());
+            if (satellite != null) {
+                cir.setReturnValue(this.galacticraft$materializeSatellite(key, satellite));
             }
         }
     }
 
-    @Override
-    public void galacticraft$loadSatellites(DynamicDimensionLoadCallback.DynamicDimensionLoader dynamicDimensionLoader) {
-        for (Map.Entry<ResourceLocation, CelestialBody<SatelliteConfig, SatelliteType>> entry : this.satellites.entrySet()) {
-            LevelStem levelStem = entry.getValue().config().dimensionOptions();
-            dynamicDimensionLoader.loadDynamicDimension(entry.getKey(), levelStem.generator(), levelStem.type().value());
+    /**
+     * Creates the level of a satellite that is only known by its metadata.
+     */
+    @Unique
+    private @Nullable ServerLevel galacticraft$materializeSatellite(ResourceKey<Level> key, CelestialBody<SatelliteConfig, SatelliteType> satellite) {
+        Constant.LOGGER.debug("Loading space station {}", key.location());
+        this.materializingSatellite = true;
+        try {
+            LevelStem levelStem = satellite.config().dimensionOptions();
+            DynamicDimensionRegistry.from((MinecraftServer) (Object) this).createDynamicDimension(key.location(), levelStem.generator(), levelStem.type().value());
+            return this.levels.get(key);
+        } finally {
+            this.materializingSatellite = false;
+        }
+    }
+
+    @Inject(method = "tickServer", at = @At("TAIL"))
+    private void galacticraft_unloadIdleSatellites(BooleanSupplier hasTimeLeft, CallbackInfo ci) {
+        int delay = Galacticraft.CONFIG.satelliteUnloadDelay() * SharedConstants.TICKS_PER_SECOND;
+        if (delay <= 0 || this.tickCount % SATELLITE_IDLE_CHECK_INTERVAL != 0) return;
+
+        List<ResourceLocation> idle = new ArrayList<>();
+        for (ResourceLocation id : this.satellites.view().keySet()) {
+            // use the level map directly, as getLevel would load the satellite
+            ServerLevel level = this.levels.get(ResourceKey.create(Registries.DIMENSION, id));
+            if (level == null || !level.players().isEmpty() || !level.getForcedChunks().isEmpty()) {
+                this.satelliteIdleSince.removeInt(id);
+            } else if (!this.satelliteIdleSince.containsKey(id)) {
+                this.satelliteIdleSince.put(id, this.tickCount);
+            } else if (this.tickCount - this.satelliteIdleSince.getInt(id) >= delay) {
+                idle.add(id);
+            }
+        }
+
+        DynamicDimensionRegistry registry = DynamicDimensionRegistry.from((MinecraftServer) (Object) this);
+        for (ResourceLocation id : idle) {
+            Constant.LOGGER.debug("Unloading idle space station {}", id);
+            this.satelliteIdleSince.removeInt(id);
+            registry.removeDynamicDimension(id, (server, player) -> player.teleportTo(server.overworld(), player.getX(), player.getY(), player.getZ(), player.getYRot(), player.getXRot()));
         }
     }
 }
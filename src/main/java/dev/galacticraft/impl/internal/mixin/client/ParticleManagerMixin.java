@@ -22,13 +22,11 @@
 
 package dev.galacticraft.impl.internal.mixin.client;
 
-import dev.galacticraft.api.universe.celestialbody.CelestialBody;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.client.particle.Particle;
 import net.minecraft.client.particle.ParticleEngine;
-import net.minecraft.core.Holder;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
@@ -43,7 +41,6 @@ public abstract class ParticleManagerMixin {
 
     @Inject(method = "add(Lnet/minecraft/client/particle/Particle;)V", at = @At("RETURN"))
     protected void galacticraft_overrideGravity(Particle particle, CallbackInfo ci) {
-        Holder<CelestialBody<?, ?>> holder = this.level.galacticraft$getCelestialBody();
-        if (holder != null) ((ParticleAccessor) particle).setGravityStrength(((ParticleAccessor) particle).getGravityStrength() * holder.value().gravity());
+        ((ParticleAccessor) particle).setGravityStrength(((ParticleAccessor) particle).getGravityStrength() * this.level.galacticraft$getEnvironment().gravity());
     }
 }
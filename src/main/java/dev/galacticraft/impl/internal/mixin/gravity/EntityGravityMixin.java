@@ -22,8 +22,6 @@
 
 package dev.galacticraft.impl.internal.mixin.gravity;
 
-import dev.galacticraft.api.universe.celestialbody.CelestialBody;
-import net.minecraft.core.Holder;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.level.Level;
 import org.spongepowered.asm.mixin.Mixin;
@@ -39,7 +37,6 @@ public abstract class EntityGravityMixin {
 
     @Redirect(method = "getGravity", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/entity/Entity;getDefaultGravity()D"))
     private double replaceGravity(Entity instance) {
-        Holder<CelestialBody<?, ?>> holder = this.level.galacticraft$getCelestialBody();
-        return (holder != null ? holder.value().gravity() : 1.0d) * this.getDefaultGravity();
+        return this.level.galacticraft$getEnvironment().gravity() * this.getDefaultGravity();
     }
 }
@@ -47,9 +47,6 @@
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.asm.mixin.injection.callback.LocalCapture;
 
-import java.util.BitSet;
-import java.util.Objects;
-
 @Mixin(ChunkSerializer.class)
 public abstract class ChunkSerializerMixin {
     @Inject(method = "write", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/level/chunk/LevelChunkSection;getStates()Lnet/minecraft/world/level/chunk/PalettedContainer;"), locals = LocalCapture.CAPTURE_FAILHARD)
@@ -57,7 +54,7 @@ private static void galacticraft_serializeOxygen(ServerLevel world, ChunkAccess
         var accessor = (ChunkSectionOxygenAccessor) section;
         if (!accessor.galacticraft$isEmpty()) {
             CompoundTag nbt = new CompoundTag();
-            nbt.putByteArray(Constant.Nbt.OXYGEN, Objects.requireNonNull(accessor.galacticraft$getBits()).toByteArray());
+            nbt.putByteArray(Constant.Nbt.OXYGEN, accessor.galacticraft$getOxygenStore().toByteArray());
             nbtCompound2.put(Constant.Nbt.GC_API, nbt);
         }
     }
@@ -66,9 +63,9 @@ private static void galacticraft_serializeOxygen(ServerLevel world, ChunkAccess
     private static void galacticraft_deserializeOxygen(ServerLevel world, PoiManager poiStorage, RegionStorageInfo key, ChunkPos chunkPos, CompoundTag nbt, CallbackInfoReturnable<ProtoChunk> cir, ChunkPos chunkPos2, UpgradeData upgradeData, boolean bl, ListTag listTag, int i, LevelChunkSection[] levelChunkSections, boolean bl2, ChunkSource chunkSource, LevelLightEngine levelLightEngine, Registry registry, Codec codec, boolean bl3, int j, CompoundTag compoundTag, int k, int l, PalettedContainer palettedContainer, PalettedContainerRO palettedContainerRO, LevelChunkSection levelChunkSection, SectionPos sectionPos) {
         CompoundTag apiCompound = compoundTag.getCompound(Constant.Nbt.GC_API);
         if (apiCompound.contains(Constant.Nbt.OXYGEN, Tag.TAG_BYTE_ARRAY)) {
-            ((ChunkSectionOxygenAccessor) levelChunkSection).galacticraft$setBits(BitSet.valueOf(apiCompound.getByteArray(Constant.Nbt.OXYGEN)));
+            ((ChunkSectionOxygenAccessor) levelChunkSection).galacticraft$getOxygenStore().readByteArray(apiCompound.getByteArray(Constant.Nbt.OXYGEN));
         } else {
-            ((ChunkSectionOxygenAccessor) levelChunkSection).galacticraft$setBits(null);
+            ((ChunkSectionOxygenAccessor) levelChunkSection).galacticraft$getOxygenStore().fill(false);
         }
     }
 }
@@ -37,4 +37,8 @@ public abstract class EmptyLevelChunkMixin implements ChunkOxygenSyncer, ChunkOx
     @Override
     public void galacticraft$setInverted(int x, int y, int z, boolean inverted) {
     }
+
+    @Override
+    public void galacticraft$setInverted(int sectionIndex, long[] mask, boolean inverted) {
+    }
 }
@@ -45,4 +45,11 @@ public abstract class ImposterProtoChunkMixin implements ChunkOxygenAccessor {
             ((ChunkOxygenAccessor)this.wrapped).galacticraft$setInverted(x, y, z, inverted);
         }
     }
+
+    @Override
+    public void galacticraft$setInverted(int sectionIndex, long[] mask, boolean inverted) {
+        if (this.allowWrites) {
+            ((ChunkOxygenAccessor)this.wrapped).galacticraft$setInverted(sectionIndex, mask, inverted);
+        }
+    }
 }
@@ -25,7 +25,12 @@
 import dev.galacticraft.impl.internal.accessor.ChunkOxygenAccessor;
 import dev.galacticraft.impl.internal.accessor.ChunkOxygenSyncer;
 import dev.galacticraft.impl.internal.accessor.ChunkSectionOxygenAccessor;
+import dev.galacticraft.impl.internal.oxygen.SectionOxygenStore;
 import dev.galacticraft.impl.network.s2c.OxygenUpdatePayload;
+import dev.galacticraft.mod.Galacticraft;
+import dev.galacticraft.mod.accessor.ServerLevelAccessor;
+import it.unimi.dsi.fastutil.shorts.ShortArrayList;
+import it.unimi.dsi.fastutil.shorts.ShortArrays;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Registry;
 import net.minecraft.world.level.ChunkPos;
@@ -48,12 +53,29 @@
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 
-import java.util.BitSet;
+import java.util.Arrays;
 
 @Mixin(LevelChunk.class)
 public abstract class LevelChunkMixin extends ChunkAccess implements ChunkOxygenAccessor, ChunkOxygenSyncer {
+    /**
+     * Once more positions than this changed in a section, the whole section is synced instead.
+     */
+    private static final @Unique int MAX_DELTA_CHANGES = SectionOxygenStore.SIZE / 16;
+
     @Shadow @Final Level level;
-    private @Unique short dirtySections = 0b0;
+    /**
+     * Sections with changes that have not been sent to clients yet.
+     */
+    private @Unique long[] dirtySections;
+    /**
+     * Dirty sections that changed too much to be sent as a delta.
+     */
+    private @Unique long[] resyncSections;
+    /**
+     * The indices of the positions that changed in each dirty section since the last sync.
+     */
+    private @Unique ShortArrayList[] sectionChanges;
+    private @Unique long dirtySince = -1;
 
     private LevelChunkMixin(ChunkPos pos, UpgradeData upgradeData, LevelHeightAccessor heightLimitView, Registry<Biome> biome, long inhabitedTime, @Nullable LevelChunkSection[] sectionArrayInitializer, @Nullable BlendingData blendingData) {
         super(pos, upgradeData, heightLimitView, biome, inhabitedTime, sectionArrayInitializer, blendingData);
@@ -66,51 +88,136 @@ private LevelChunkMixin(ChunkPos pos, UpgradeData upgradeData, LevelHeightAccess
 
     @Override
     public void galacticraft$setInverted(int x, int y, int z, boolean inverted) {
-        var accessor = ((ChunkSectionOxygenAccessor) this.sections[this.getSectionIndex(y)]);
-        if (inverted != accessor.galacticraft$isInverted(x, y & 15, z)) {
-            if (!this.level.isClientSide) {
-                this.unsaved = true;
-                this.dirtySections |= (short) (0b1 << this.getSectionIndex(y));
+        int sectionIndex = this.getSectionIndex(y);
+        var accessor = ((ChunkSectionOxygenAccessor) this.sections[sectionIndex]);
+        int index = x + ((y & 15) << 4) + (z << 8);
+        if (accessor.galacticraft$getOxygenStore().set(index, inverted) && !this.level.isClientSide) {
+            this.unsaved = true;
+            this.galacticraft$markChanged(sectionIndex, index);
+        }
+    }
+
+    @Override
+    public void galacticraft$setInverted(int sectionIndex, long[] mask, boolean inverted) {
+        SectionOxygenStore store = ((ChunkSectionOxygenAccessor) this.sections[sectionIndex]).galacticraft$getOxygenStore();
+        if (this.level.isClientSide) {
+            store.setAll(mask, inverted, null);
+            return;
+        }
+
+        long[] changed = new long[SectionOxygenStore.WORDS];
+        int count = store.setAll(mask, inverted, changed);
+        if (count == 0) return;
+
+        this.unsaved = true;
+        if (count >= MAX_DELTA_CHANGES) {
+            this.galacticraft$markDirty(sectionIndex);
+            this.resyncSections[sectionIndex >> 6] |= 1L << sectionIndex;
+            if (this.sectionChanges[sectionIndex] != null) this.sectionChanges[sectionIndex].clear();
+        } else {
+            for (int i = 0; i < changed.length; i++) {
+                long word = changed[i];
+                while (word != 0) {
+                    this.galacticraft$markChanged(sectionIndex, (i << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
             }
-            accessor.galacticraft$setInverted(x, y & 15, z, inverted);
+        }
+    }
+
+    @Unique
+    private void galacticraft$markDirty(int section) {
+        if (this.dirtySections == null) {
+            int words = (this.sections.length + 63) >> 6;
+            this.dirtySections = new long[words];
+            this.resyncSections = new long[words];
+            this.sectionChanges = new ShortArrayList[this.sections.length];
+        }
+        if (this.dirtySince == -1) {
+            this.dirtySince = this.level.getGameTime();
+        }
+
+        this.dirtySections[section >> 6] |= 1L << section;
+    }
+
+    @Unique
+    private void galacticraft$markChanged(int section, int index) {
+        this.galacticraft$markDirty(section);
+        if ((this.resyncSections[section >> 6] & (1L << section)) != 0) return;
+
+        ShortArrayList changes = this.sectionChanges[section];
+        if (changes == null) {
+            changes = this.sectionChanges[section] = new ShortArrayList();
+        }
+        if (changes.size() < MAX_DELTA_CHANGES) {
+            changes.add((short) index);
+        } else {
+            this.resyncSections[section >> 6] |= 1L << section;
+            changes.clear();
         }
     }
 
     @Override
     public @Nullable OxygenUpdatePayload.OxygenData[] galacticraft$syncOxygenPacketsToClient() {
         assert !this.level.isClientSide;
-        if (this.dirtySections != 0b0) {
-            int count = 0;
-            for (int i = 0; i < this.sections.length; i++) {
-                if ((this.dirtySections & (0b1 << i++)) != 0) {
-                    count++;
-                }
-            }
+        if (this.dirtySince == -1 || this.level.getGameTime() - this.dirtySince < Galacticraft.CONFIG.oxygenSyncInterval()) {
+            return null;
+        }
+
+        int count = 0;
+        for (long word : this.dirtySections) {
+            count += Long.bitCount(word);
+        }
 
-            OxygenUpdatePayload.OxygenData[] data = new OxygenUpdatePayload.OxygenData[count];
+        OxygenUpdatePayload.OxygenData[] data = new OxygenUpdatePayload.OxygenData[count];
+        int idx = 0;
+        for (int i = 0; i < this.sections.length; i++) {
+            long bit = 1L << i;
+            if ((this.dirtySections[i >> 6] & bit) == 0) continue;
 
-            int idx = 0;
-            for (byte i = 0; i < this.sections.length; i++) {
-                if ((this.dirtySections & (0b1 << i++)) != 0) {
-                    BitSet data1 = ((ChunkSectionOxygenAccessor) this.sections[i]).galacticraft$getBits();
-                    data[idx++] = new OxygenUpdatePayload.OxygenData(i, data1 == null ? new BitSet(0) : data1);
+            SectionOxygenStore store = ((ChunkSectionOxygenAccessor) this.sections[i]).galacticraft$getOxygenStore();
+            ShortArrayList changes = this.sectionChanges[i];
+            if ((this.resyncSections[i >> 6] & bit) != 0 || changes == null) {
+                data[idx++] = OxygenUpdatePayload.OxygenData.full(i, store);
+            } else {
+                short[] elements = changes.elements();
+                int size = changes.size();
+                ShortArrays.quickSort(elements, 0, size);
+                int distinct = 0;
+                for (int j = 0; j < size; j++) {
+                    if (distinct == 0 || elements[distinct - 1] != elements[j]) {
+                        elements[distinct++] = elements[j];
+                    }
                 }
+                data[idx++] = OxygenUpdatePayload.OxygenData.delta(i, store, elements, distinct);
             }
-            this.dirtySections = 0;
-            return data;
+            if (changes != null) changes.clear();
         }
-        return null;
+
+        Arrays.fill(this.dirtySections, 0);
+        Arrays.fill(this.resyncSections, 0);
+        this.dirtySince = -1;
+        return data;
     }
 
     @Override
     public void galacticraft$readOxygenUpdate(@NotNull OxygenUpdatePayload.OxygenData[] buf) {
         for (OxygenUpdatePayload.@NotNull OxygenData oxygenData : buf) {
-            ((ChunkSectionOxygenAccessor) this.sections[oxygenData.section()]).galacticraft$setBits(oxygenData.data());
+            if (oxygenData.section() >= 0 && oxygenData.section() < this.sections.length) {
+                oxygenData.apply(((ChunkSectionOxygenAccessor) this.sections[oxygenData.section()]).galacticraft$getOxygenStore());
+            }
         }
     }
 
     @Inject(method = "setBlockState", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/level/block/state/BlockState;getBlock()Lnet/minecraft/world/level/block/Block;", ordinal = 0))
     private void resetAirOnBlockChange(BlockPos pos, BlockState blockState, boolean bl, CallbackInfoReturnable<BlockState> cir) {
-        this.galacticraft$setInverted(pos.getX() & 15, pos.getY(), pos.getZ() & 15, false);
+        int x = pos.getX() & 15;
+        int z = pos.getZ() & 15;
+        if (this.level instanceof ServerLevelAccessor accessor && accessor.isOxygenHeld(pos.asLong())) {
+            // a bubble or sealed area still provides this position, but clients reset it locally, so send it again
+            this.galacticraft$markChanged(this.getSectionIndex(pos.getY()), x + ((pos.getY() & 15) << 4) + (z << 8));
+            return;
+        }
+        this.galacticraft$setInverted(x, pos.getY(), z, false);
     }
 }
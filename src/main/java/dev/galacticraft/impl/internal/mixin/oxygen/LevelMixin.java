@@ -24,9 +24,14 @@
 
 import dev.galacticraft.api.accessor.LevelBodyAccessor;
 import dev.galacticraft.api.accessor.LevelOxygenAccessor;
-import dev.galacticraft.api.universe.celestialbody.CelestialBody;
 import dev.galacticraft.impl.internal.accessor.ChunkOxygenAccessor;
 import dev.galacticraft.impl.internal.accessor.InternalLevelOxygenAccessor;
+import dev.galacticraft.impl.internal.oxygen.SectionOxygenStore;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongCollection;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import net.minecraft.core.BlockPos;
 import net.minecraft.core.Holder;
 import net.minecraft.core.RegistryAccess;
 import net.minecraft.core.SectionPos;
@@ -34,6 +39,7 @@
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.LevelAccessor;
 import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
 import net.minecraft.world.level.storage.WritableLevelData;
 import org.jetbrains.annotations.NotNull;
 import org.spongepowered.asm.mixin.Mixin;
@@ -43,6 +49,7 @@
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
+import java.util.Arrays;
 import java.util.function.Supplier;
 
 @Mixin(Level.class)
@@ -53,8 +60,7 @@ public abstract class LevelMixin implements LevelOxygenAccessor, InternalLevelOx
 
     @Inject(method = "<init>", at = @At("RETURN"))
     private void initializeOxygenValues(WritableLevelData writableLevelData, ResourceKey<Level> resourceKey, RegistryAccess registryAccess, Holder holder, Supplier supplier, boolean bl, boolean bl2, long l, int i, CallbackInfo ci) {
-        Holder<CelestialBody<?, ?>> holder1 = ((LevelBodyAccessor) this).galacticraft$getCelestialBody();
-        this.setDefaultBreathable(holder1 != null ? holder1.value().atmosphere().breathable() : this.breathable);
+        this.setDefaultBreathable(((LevelBodyAccessor) this).galacticraft$getEnvironment().breathable());
     }
 
     @Override
@@ -88,6 +94,65 @@ public void setBreathableChunk(LevelChunk chunk, int x, int y, int z, boolean va
         ((ChunkOxygenAccessor) chunk).galacticraft$setInverted(x, y, z, this.breathable ^ value);
     }
 
+    @Override
+    public void setBreathable(BoundingBox box, boolean value) {
+        int minX = Math.max(box.minX(), -Level.MAX_LEVEL_SIZE);
+        int minY = Math.max(box.minY(), this.getMinBuildHeight());
+        int minZ = Math.max(box.minZ(), -Level.MAX_LEVEL_SIZE);
+        int maxX = Math.min(box.maxX(), Level.MAX_LEVEL_SIZE - 1);
+        int maxY = Math.min(box.maxY(), this.getMaxBuildHeight() - 1);
+        int maxZ = Math.min(box.maxZ(), Level.MAX_LEVEL_SIZE - 1);
+        if (minX > maxX || minY > maxY || minZ > maxZ) return;
+
+        long[] mask = new long[SectionOxygenStore.WORDS];
+        for (int sectionX = SectionPos.blockToSectionCoord(minX); sectionX <= SectionPos.blockToSectionCoord(maxX); sectionX++) {
+            for (int sectionZ = SectionPos.blockToSectionCoord(minZ); sectionZ <= SectionPos.blockToSectionCoord(maxZ); sectionZ++) {
+                LevelChunk chunk = this.getChunk(sectionX, sectionZ);
+                int x0 = Math.max(minX, SectionPos.sectionToBlockCoord(sectionX)) & 15;
+                int x1 = Math.min(maxX, SectionPos.sectionToBlockCoord(sectionX, 15)) & 15;
+                int z0 = Math.max(minZ, SectionPos.sectionToBlockCoord(sectionZ)) & 15;
+                int z1 = Math.min(maxZ, SectionPos.sectionToBlockCoord(sectionZ, 15)) & 15;
+                long row = ((1L << (x1 - x0 + 1)) - 1) << x0;
+
+                for (int sectionY = SectionPos.blockToSectionCoord(minY); sectionY <= SectionPos.blockToSectionCoord(maxY); sectionY++) {
+                    int y0 = Math.max(minY, SectionPos.sectionToBlockCoord(sectionY)) & 15;
+                    int y1 = Math.min(maxY, SectionPos.sectionToBlockCoord(sectionY, 15)) & 15;
+                    Arrays.fill(mask, 0);
+                    for (int z = z0; z <= z1; z++) {
+                        for (int y = y0; y <= y1; y++) {
+                            int index = (y << 4) | (z << 8);
+                            mask[index >> 6] |= row << (index & 63);
+                        }
+                    }
+                    ((ChunkOxygenAccessor) chunk).galacticraft$setInverted(chunk.getSectionIndexFromSectionY(sectionY), mask, this.breathable ^ value);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void setBreathable(LongCollection positions, boolean value) {
+        if (positions.isEmpty()) return;
+        Long2ObjectMap<long[]> masks = new Long2ObjectOpenHashMap<>();
+        for (LongIterator it = positions.iterator(); it.hasNext(); ) {
+            long pos = it.nextLong();
+            int x = BlockPos.getX(pos);
+            int y = BlockPos.getY(pos);
+            int z = BlockPos.getZ(pos);
+            if (!this.validPosition(x, y, z)) continue;
+
+            long[] mask = masks.computeIfAbsent(SectionPos.blockToSection(pos), s -> new long[SectionOxygenStore.WORDS]);
+            int index = (x & 15) | ((y & 15) << 4) | ((z & 15) << 8);
+            mask[index >> 6] |= 1L << index;
+        }
+
+        for (Long2ObjectMap.Entry<long[]> entry : masks.long2ObjectEntrySet()) {
+            long section = entry.getLongKey();
+            LevelChunk chunk = this.getChunk(SectionPos.x(section), SectionPos.z(section));
+            ((ChunkOxygenAccessor) chunk).galacticraft$setInverted(chunk.getSectionIndexFromSectionY(SectionPos.y(section)), entry.getValue(), this.breathable ^ value);
+        }
+    }
+
     @Override
     public boolean getDefaultBreathable() {
         return this.breathable;
@@ -52,4 +52,9 @@ private ProtoChunkMixin(ChunkPos pos, UpgradeData upgradeData, LevelHeightAccess
     public void galacticraft$setInverted(int x, int y, int z, boolean inverted) {
         ((ChunkSectionOxygenAccessor) this.sections[this.getSectionIndex(y)]).galacticraft$setInverted(x, y & 15, z, inverted);
     }
+
+    @Override
+    public void galacticraft$setInverted(int sectionIndex, long[] mask, boolean inverted) {
+        ((ChunkSectionOxygenAccessor) this.sections[sectionIndex]).galacticraft$getOxygenStore().setAll(mask, inverted, null);
+    }
 }
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2019-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.impl.internal.oxygen;
+
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.VarInt;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Stores which of the 4096 positions of a chunk section have inverted breathability.
+ * Backed by a fixed {@code long[64]} that is only allocated once a position is inverted, with a population count so that
+ * uniform (empty or full) sections can be answered without touching the words.
+ * The serialized form (compatible with {@link java.util.BitSet#toByteArray()}) is cached until the next mutation.
+ */
+@ApiStatus.Internal
+public final class SectionOxygenStore {
+    public static final int SIZE = 16 * 16 * 16;
+    public static final int WORDS = SIZE / Long.SIZE;
+    private static final long[] NO_WORDS = new long[0];
+    private static final byte[] EMPTY = new byte[0];
+
+    private long @NotNull [] words = NO_WORDS;
+    private int count = 0;
+    private byte @NotNull [] serialized = EMPTY;
+    private boolean serializedValid = true;
+
+    public boolean get(int index) {
+        if (this.count == 0) return false;
+        if (this.count == SIZE) return true;
+        return (this.words[index >> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Sets the state of a single position.
+     *
+     * @param index the index of the position ({@code x + (y << 4) + (z << 8)})
+     * @param value whether the position is inverted
+     * @return whether the stored value changed
+     */
+    public boolean set(int index, boolean value) {
+        if (value) {
+            if (this.count == SIZE) return false;
+            if (this.words.length == 0) this.words = new long[WORDS];
+        } else if (this.count == 0) {
+            return false;
+        }
+
+        long mask = 1L << index;
+        long word = this.words[index >> 6];
+        if (((word & mask) != 0) == value) return false;
+
+        this.words[index >> 6] = word ^ mask;
+        this.count += value ? 1 : -1;
+        this.serializedValid = false;
+        return true;
+    }
+
+    /**
+     * Sets every position selected by a mask to the same state, one word at a time.
+     *
+     * @param mask the positions to set, as {@value #WORDS} words indexed like {@link #get(int)}
+     * @param value whether the selected positions are inverted
+     * @param changed receives the positions whose value changed, or {@code null}
+     * @return the number of positions whose value changed
+     */
+    public int setAll(long @NotNull [] mask, boolean value, long @Nullable [] changed) {
+        if (value ? this.count == SIZE : this.count == 0) {
+            if (changed != null) Arrays.fill(changed, 0);
+            return 0;
+        }
+        if (this.words.length == 0) this.words = new long[WORDS];
+
+        int modified = 0;
+        for (int i = 0; i < WORDS; i++) {
+            long word = this.words[i];
+            long flip = mask[i] & (value ? ~word : word);
+            if (flip != 0) {
+                this.words[i] = word ^ flip;
+                modified += Long.bitCount(flip);
+            }
+            if (changed != null) changed[i] = flip;
+        }
+
+        if (modified != 0) {
+            this.count += value ? modified : -modified;
+            this.serializedValid = false;
+        }
+        return modified;
+    }
+
+    public boolean isEmpty() {
+        return this.count == 0;
+    }
+
+    public boolean isFull() {
+        return this.count == SIZE;
+    }
+
+    public int count() {
+        return this.count;
+    }
+
+    /**
+     * Sets every position of the section to the same state.
+     *
+     * @param value whether every position is inverted
+     */
+    public void fill(boolean value) {
+        if (value) {
+            if (this.count == SIZE) return;
+            if (this.words.length == 0) this.words = new long[WORDS];
+            Arrays.fill(this.words, -1L);
+            this.count = SIZE;
+        } else {
+            if (this.count == 0) return;
+            this.words = NO_WORDS;
+            this.count = 0;
+        }
+        this.serializedValid = false;
+    }
+
+    /**
+     * Returns the serialized form of this section, in the same layout as {@link java.util.BitSet#toByteArray()}.
+     * The returned array is shared and must not be modified.
+     *
+     * @return the serialized form of this section
+     */
+    public byte @NotNull [] toByteArray() {
+        if (!this.serializedValid) {
+            this.serialized = this.encode();
+            this.serializedValid = true;
+        }
+        return this.serialized;
+    }
+
+    public void readByteArray(byte @NotNull [] bytes) {
+        this.words = NO_WORDS;
+        this.count = 0;
+        int length = Math.min(bytes.length, WORDS * Long.BYTES);
+        for (int i = 0; i < length; i++) {
+            if (bytes[i] != 0) {
+                if (this.words.length == 0) this.words = new long[WORDS];
+                this.words[i >> 3] |= (bytes[i] & 0xFFL) << ((i & 7) << 3);
+                this.count += Integer.bitCount(bytes[i] & 0xFF);
+            }
+        }
+
+        if (this.count == 0) {
+            this.words = NO_WORDS;
+            this.serialized = EMPTY;
+        } else {
+            this.serialized = length == bytes.length ? bytes : this.encode();
+        }
+        this.serializedValid = true;
+    }
+
+    public int getSerializedSize() {
+        int length = this.toByteArray().length;
+        return VarInt.getByteSize(length) + length;
+    }
+
+    public void write(@NotNull FriendlyByteBuf buf) {
+        buf.writeByteArray(this.toByteArray());
+    }
+
+    public void read(@NotNull FriendlyByteBuf buf) {
+        this.readByteArray(buf.readByteArray());
+    }
+
+    private byte @NotNull [] encode() {
+        if (this.count == 0) return EMPTY;
+
+        int lastWord = WORDS - 1;
+        while (this.words[lastWord] == 0) lastWord--;
+        long last = this.words[lastWord];
+        int length = lastWord * Long.BYTES + (Long.SIZE - Long.numberOfLeadingZeros(last) + 7) / 8;
+
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) (this.words[i >> 3] >>> ((i & 7) << 3));
+        }
+        return bytes;
+    }
+}
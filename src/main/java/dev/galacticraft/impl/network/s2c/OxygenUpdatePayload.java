@@ -22,7 +22,8 @@
 
 package dev.galacticraft.impl.network.s2c;
 
-import dev.galacticraft.impl.internal.accessor.ChunkSectionOxygenAccessor;
+import dev.galacticraft.impl.internal.accessor.ChunkOxygenSyncer;
+import dev.galacticraft.impl.internal.oxygen.SectionOxygenStore;
 import dev.galacticraft.mod.Constant;
 import dev.galacticraft.mod.util.StreamCodecs;
 import io.netty.buffer.ByteBuf;
@@ -35,8 +36,6 @@
 import net.minecraft.world.level.chunk.LevelChunk;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.BitSet;
-
 public record OxygenUpdatePayload(long chunk, OxygenData[] data) implements S2CPayload {
     public static final ResourceLocation ID = Constant.id("oxygen_update");
     public static final Type<OxygenUpdatePayload> TYPE = new Type<>(ID);
@@ -57,21 +56,86 @@ public record OxygenUpdatePayload(long chunk, OxygenData[] data) implements S2CP
     public Runnable handle(ClientPlayNetworking.@NotNull Context context) {
         return () -> {
             LevelChunk chunk = context.client().level.getChunk(ChunkPos.getX(this.chunk), ChunkPos.getZ(this.chunk));
-            for (OxygenData datum : this.data) {
-                ChunkSectionOxygenAccessor accessor = (ChunkSectionOxygenAccessor) chunk.getSection(datum.section);
-                accessor.galacticraft$setBits(datum.data);
-            }
+            ((ChunkOxygenSyncer) chunk).galacticraft$readOxygenUpdate(this.data);
         };
     }
 
-    public record OxygenData(byte section, @NotNull BitSet data) {
-        private static final StreamCodec<ByteBuf, BitSet> BIT_SET_CODEC = ByteBufCodecs.BYTE_ARRAY.map(BitSet::valueOf, BitSet::toByteArray);
+    /**
+     * An update to the oxygen of a single chunk section.
+     *
+     * @param section the index of the section within the chunk
+     * @param encoding how {@code data} is encoded, one of {@link #FULL}, {@link #FILLED} or {@link #DELTA}
+     * @param data the encoded update
+     */
+    public record OxygenData(int section, byte encoding, byte @NotNull [] data) {
+        /**
+         * The whole section, serialized by {@link SectionOxygenStore#toByteArray()}.
+         */
+        public static final byte FULL = 0;
+        /**
+         * Every position in the section is inverted. Carries no data.
+         */
+        public static final byte FILLED = 1;
+        /**
+         * The new state of the changed positions only, as big-endian shorts holding the index of the position
+         * in the lower 12 bits and the new value in the highest bit.
+         */
+        public static final byte DELTA = 2;
+
+        private static final byte[] NO_DATA = new byte[0];
+
         public static final StreamCodec<ByteBuf, OxygenData> CODEC = StreamCodec.composite(
-                ByteBufCodecs.BYTE,
+                ByteBufCodecs.VAR_INT,
                 d -> d.section,
-                BIT_SET_CODEC,
+                ByteBufCodecs.BYTE,
+                d -> d.encoding,
+                ByteBufCodecs.BYTE_ARRAY,
                 d -> d.data,
                 OxygenData::new
         );
+
+        public static @NotNull OxygenData full(int section, @NotNull SectionOxygenStore store) {
+            if (store.isFull()) return new OxygenData(section, FILLED, NO_DATA);
+            return new OxygenData(section, FULL, store.toByteArray());
+        }
+
+        /**
+         * Encodes the current state of the changed positions of a section, falling back to the full section if
+         * that would be smaller.
+         *
+         * @param section the index of the section within the chunk
+         * @param store the oxygen of the section
+         * @param changes the (sorted, distinct) indices of the positions that changed
+         * @param count the number of changed positions
+         * @return the encoded update
+         */
+        public static @NotNull OxygenData delta(int section, @NotNull SectionOxygenStore store, short @NotNull [] changes, int count) {
+            if (store.isEmpty() || store.isFull() || count * 2 >= store.toByteArray().length) {
+                return full(section, store);
+            }
+
+            byte[] data = new byte[count * 2];
+            for (int i = 0; i < count; i++) {
+                int index = changes[i];
+                int entry = store.get(index) ? index | 0x8000 : index;
+                data[i * 2] = (byte) (entry >> 8);
+                data[i * 2 + 1] = (byte) entry;
+            }
+            return new OxygenData(section, DELTA, data);
+        }
+
+        public void apply(@NotNull SectionOxygenStore store) {
+            switch (this.encoding) {
+                case FULL -> store.readByteArray(this.data);
+                case FILLED -> store.fill(true);
+                case DELTA -> {
+                    for (int i = 0; i + 1 < this.data.length; i += 2) {
+                        int entry = ((this.data[i] & 0xFF) << 8) | (this.data[i + 1] & 0xFF);
+                        store.set(entry & 0xFFF, (entry & 0x8000) != 0);
+                    }
+                }
+                default -> throw new IllegalStateException("Unknown oxygen encoding: " + this.encoding);
+            }
+        }
     }
 }
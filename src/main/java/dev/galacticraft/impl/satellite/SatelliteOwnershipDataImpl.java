@@ -39,12 +39,21 @@ public class SatelliteOwnershipDataImpl implements SatelliteOwnershipData {
     private final List<UUID> trusted;
     private String username;
     private final boolean open;
+    private Runnable changeListener = () -> {};
 
     public SatelliteOwnershipDataImpl(@NotNull UUID owner, String username, List<UUID> trusted, boolean open) {
         this.owner = owner;
         this.username = username;
         this.open = open;
-        this.trusted = trusted;
+        // decoded lists are immutable
+        this.trusted = new ArrayList<>(trusted);
+    }
+
+    /**
+     * Sets the callback run whenever this data is changed in place.
+     */
+    public void setChangeListener(@NotNull Runnable changeListener) {
+        this.changeListener = changeListener;
     }
 
     public static @NotNull SatelliteOwnershipDataImpl fromNbt(@NotNull CompoundTag nbt) {
@@ -68,6 +77,7 @@ public SatelliteOwnershipDataImpl(@NotNull UUID owner, String username, List<UUI
     @Override
     public void username(String username) {
         this.username = username;
+        this.changeListener.run();
     }
 
     @Override
@@ -93,11 +103,14 @@ public boolean open() {
     @Override
     public void trust(UUID uuid) {
         this.trusted.add(uuid);
+        this.changeListener.run();
     }
 
     @Override
     public void distrust(UUID uuid) {
-        this.trusted.remove(uuid);
+        if (this.trusted.remove(uuid)) {
+            this.changeListener.run();
+        }
     }
 
     @Override
@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2019-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.galacticraft.impl.satellite;
+
+import com.mojang.datafixers.util.Pair;
+import com.mojang.serialization.DataResult;
+import dev.galacticraft.api.universe.celestialbody.CelestialBody;
+import dev.galacticraft.impl.universe.celestialbody.type.SatelliteType;
+import dev.galacticraft.impl.universe.position.config.SatelliteConfig;
+import dev.galacticraft.mod.Constant;
+import net.fabricmc.fabric.api.util.NbtType;
+import net.minecraft.Util;
+import net.minecraft.nbt.*;
+import net.minecraft.resources.ResourceLocation;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * Stores the satellites of a server, one file per satellite.
+ * Only satellites that changed since the last save are encoded, and files are written off-thread.
+ */
+public final class SatelliteStorage {
+    private static final String LEGACY_FILE = "satellites.dat";
+    private static final String DIRECTORY = "satellites";
+    private static final String EXTENSION = ".dat";
+
+    private final Map<ResourceLocation, CelestialBody<SatelliteConfig, SatelliteType>> satellites = new HashMap<>();
+    private final Map<ResourceLocation, CelestialBody<SatelliteConfig, SatelliteType>> view = Collections.unmodifiableMap(this.satellites);
+    private final Set<ResourceLocation> dirty = new HashSet<>();
+    private final Set<ResourceLocation> removed = new HashSet<>();
+    private @Nullable Path root;
+    private boolean legacy = false;
+    /**
+     * The last pending write. Writes are chained so that files are never written out of order.
+     */
+    private CompletableFuture<Void> pending = CompletableFuture.completedFuture(null);
+    /**
+     * Satellites whose files could not be written or deleted. They are queued again by the next save on the server thread.
+     */
+    private final Queue<ResourceLocation> failedWrites = new ConcurrentLinkedQueue<>();
+    private final Queue<ResourceLocation> failedDeletes = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean legacyFailed = new AtomicBoolean();
+
+    /**
+     * {@return a read-only live view of the satellites}
+     */
+    public @Unmodifiable Map<ResourceLocation, CelestialBody<SatelliteConfig, SatelliteType>> view() {
+        return this.view;
+    }
+
+    public void add(ResourceLocation id, CelestialBody<SatelliteConfig, SatelliteType> satellite) {
+        this.satellites.put(id, satellite);
+        satellite.config().setChangeListener(() -> this.markDirty(id));
+        this.removed.remove(id);
+        this.dirty.add(id);
+    }
+
+    public void remove(ResourceLocation id) {
+        if (this.satellites.remove(id) != null) {
+            this.dirty.remove(id);
+            this.removed.add(id);
+        }
+    }
+
+    /**
+     * Marks a satellite as changed, so that it is written on the next save.
+     */
+    public void markDirty(ResourceLocation id) {
+        if (this.satellites.containsKey(id)) {
+            this.dirty.add(id);
+        }
+    }
+
+    public void load(Path root) {
+        this.root = root;
+        Path directory = root.resolve(Constant.MOD_ID).resolve(DIRECTORY);
+        if (Files.isDirectory(directory)) {
+            try (Stream<Path> files = Files.walk(directory)) {
+                for (Path file : (Iterable<Path>) files.filter(p -> p.toString().endsWith(EXTENSION))::iterator) {
+                    this.read(NbtIo.readCompressed(file, NbtAccounter.unlimitedHeap()));
+                }
+            } catch (IOException exception) {
+                throw new RuntimeException("Failed to read satellite data!", exception);
+            }
+        }
+
+        Path legacyFile = root.resolve(LEGACY_FILE);
+        if (Files.exists(legacyFile)) {
+            try {
+                ListTag nbt = NbtIo.readCompressed(legacyFile, NbtAccounter.unlimitedHeap()).getList("satellites", NbtType.COMPOUND);
+                for (Tag compound : nbt) {
+                    // satellites that already have their own file were written after the legacy file, so they are newer
+                    if (this.satellites.containsKey(ResourceLocation.parse(((CompoundTag) compound).getString("id")))) continue;
+                    ResourceLocation id = this.read((CompoundTag) compound);
+                    if (id != null) this.dirty.add(id);
+                }
+                this.legacy = true;
+            } catch (IOException exception) {
+                throw new RuntimeException("Failed to read satellite data!", exception);
+            }
+        }
+    }
+
+    private @Nullable ResourceLocation read(CompoundTag compound) {
+        ResourceLocation id = ResourceLocation.parse(compound.getString("id"));
+        DataResult<Pair<SatelliteConfig, Tag>> decode = SatelliteConfig.CODEC.decode(NbtOps.INSTANCE, compound);
+        if (decode.error().isPresent()) {
+            Constant.LOGGER.error("Skipping satellite '{}' - {}", id, decode.error().get().message());
+            return null;
+        }
+        SatelliteConfig config = decode.getOrThrow().getFirst();
+        config.setChangeListener(() -> this.markDirty(id));
+        this.satellites.put(id, new CelestialBody<>(SatelliteType.INSTANCE, config));
+        return id;
+    }
+
+    /**
+     * Encodes the changed satellites and schedules them to be written.
+     *
+     * @param flush whether to wait for all pending writes to finish
+     */
+    public void save(boolean flush) {
+        this.requeueFailed();
+        if (this.root != null && (!this.dirty.isEmpty() || !this.removed.isEmpty())) {
+            Path directory = this.root.resolve(Constant.MOD_ID).resolve(DIRECTORY);
+            Map<ResourceLocation, CompoundTag> writes = new HashMap<>(this.dirty.size());
+            for (ResourceLocation id : this.dirty) {
+                CompoundTag compound = (CompoundTag) SatelliteConfig.CODEC.encode(this.satellites.get(id).config(), NbtOps.INSTANCE, new CompoundTag()).getOrThrow();
+                compound.putString("id", id.toString());
+                writes.put(id, compound);
+            }
+            List<ResourceLocation> deletes = new ArrayList<>(this.removed);
+            @Nullable Path legacyFile = this.legacy ? this.root.resolve(LEGACY_FILE) : null;
+            this.dirty.clear();
+            this.removed.clear();
+            this.legacy = false;
+
+            this.pending = this.pending.thenRunAsync(() -> this.write(directory, writes, deletes, legacyFile), Util.ioPool());
+        }
+
+        if (flush) {
+            this.pending.join();
+            this.requeueFailed();
+        }
+    }
+
+    /**
+     * Queues the satellites whose files failed to be written or deleted again, so that the next save retries them.
+     */
+    private void requeueFailed() {
+        for (ResourceLocation id = this.failedWrites.poll(); id != null; id = this.failedWrites.poll()) {
+            // a satellite removed in the meantime already has its deletion queued
+            if (this.satellites.containsKey(id)) {
+                this.dirty.add(id);
+            }
+        }
+        for (ResourceLocation id = this.failedDeletes.poll(); id != null; id = this.failedDeletes.poll()) {
+            if (!this.satellites.containsKey(id)) {
+                this.removed.add(id);
+            }
+        }
+        if (this.legacyFailed.getAndSet(false)) {
+            this.legacy = true;
+        }
+    }
+
+    private void write(Path directory, Map<ResourceLocation, CompoundTag> writes, List<ResourceLocation> deletes, @Nullable Path legacyFile) {
+        boolean failed = false;
+        for (Map.Entry<ResourceLocation, CompoundTag> entry : writes.entrySet()) {
+            try {
+                Path file = getFile(directory, entry.getKey());
+                Files.createDirectories(file.getParent());
+                Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+                NbtIo.writeCompressed(entry.getValue(), temp);
+                try {
+                    Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } catch (Throwable exception) {
+                Constant.LOGGER.error("Failed to write satellite '{}'!", entry.getKey(), exception);
+                this.failedWrites.add(entry.getKey());
+                failed = true;
+            }
+        }
+        for (ResourceLocation id : deletes) {
+            try {
+                Files.deleteIfExists(getFile(directory, id));
+            } catch (Throwable exception) {
+                Constant.LOGGER.error("Failed to delete satellite '{}'!", id, exception);
+                this.failedDeletes.add(id);
+            }
+        }
+
+        if (legacyFile != null) {
+            // the legacy file is only retired once every satellite from it has been written
+            if (failed) {
+                this.legacyFailed.set(true);
+                return;
+            }
+            try {
+                Files.move(legacyFile, legacyFile.resolveSibling(LEGACY_FILE + "_old"), StandardCopyOption.REPLACE_EXISTING);
+            } catch (Throwable exception) {
+                Constant.LOGGER.error("Failed to retire legacy satellite data!", exception);
+                this.legacyFailed.set(true);
+            }
+        }
+    }
+
+    private static Path getFile(Path directory, ResourceLocation id) {
+        return directory.resolve(id.getNamespace()).resolve(id.getPath() + EXTENSION);
+    }
+}
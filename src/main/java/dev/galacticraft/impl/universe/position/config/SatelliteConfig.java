@@ -34,11 +34,13 @@
 import dev.galacticraft.api.universe.display.ring.CelestialRingDisplay;
 import dev.galacticraft.api.universe.galaxy.Galaxy;
 import dev.galacticraft.api.universe.position.CelestialPosition;
+import dev.galacticraft.impl.satellite.SatelliteOwnershipDataImpl;
 import dev.galacticraft.mod.util.StreamCodecs;
 import net.minecraft.core.Holder;
 import net.minecraft.core.registries.Registries;
 import net.minecraft.network.RegistryFriendlyByteBuf;
 import net.minecraft.network.chat.Component;
+import net.minecraft.network.chat.ComponentSerialization;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.resources.RegistryFileCodec;
 import net.minecraft.resources.ResourceKey;
@@ -60,8 +62,13 @@ public final class SatelliteConfig implements CelestialBodyConfig {
             GasComposition.CODEC.fieldOf("atmosphere").forGetter(SatelliteConfig::atmosphere),
             Codec.FLOAT.fieldOf("gravity").forGetter(SatelliteConfig::gravity),
             Codec.INT.fieldOf("accessWeight").forGetter(SatelliteConfig::accessWeight),
-            LevelStem.CODEC.fieldOf("dimension_options").forGetter(SatelliteConfig::dimensionOptions)
-    ).apply(instance, SatelliteConfig::new));
+            LevelStem.CODEC.fieldOf("dimension_options").forGetter(SatelliteConfig::dimensionOptions),
+            ComponentSerialization.CODEC.optionalFieldOf("custom_name", Component.empty()).forGetter(SatelliteConfig::customName)
+    ).apply(instance, (parent, galaxy, position, display, ring, ownershipData, world, teleporter, atmosphere, gravity, accessWeight, options, customName) -> {
+        SatelliteConfig config = new SatelliteConfig(parent, galaxy, position, display, ring, ownershipData, world, teleporter, atmosphere, gravity, accessWeight, options);
+        config.customName = customName;
+        return config;
+    }));
     public static final StreamCodec<RegistryFriendlyByteBuf, SatelliteConfig> STREAM_CODEC = StreamCodecs.wrapCodec(CODEC);
 
     private final Holder<CelestialBody<?, ?>> parent;
@@ -77,6 +84,7 @@ public final class SatelliteConfig implements CelestialBodyConfig {
     private final int accessWeight;
     private final LevelStem options;
     private Component customName = Component.empty();
+    private Runnable changeListener = () -> {};
 
     public SatelliteConfig(Holder<CelestialBody<?, ?>> parent, Holder<Galaxy> galaxy, CelestialPosition<?, ?> position, CelestialDisplay<?, ?> display, CelestialRingDisplay<?, ?> ring, SatelliteOwnershipData ownershipData, ResourceKey<Level> world, Holder<CelestialTeleporter<?, ?>> teleporter, GasComposition atmosphere, float gravity, int accessWeight, LevelStem options) {
         this.parent = parent;
@@ -107,7 +115,20 @@ public SatelliteConfig(Holder<CelestialBody<?, ?>> parent, Holder<Galaxy> galaxy
 
     public Component customName() {return customName;}
 
-    public void customName(Component name) {this.customName = name;}
+    public void customName(Component name) {
+        this.customName = name;
+        this.changeListener.run();
+    }
+
+    /**
+     * Sets the callback run whenever this config, or its ownership data, is changed in place.
+     */
+    public void setChangeListener(Runnable changeListener) {
+        this.changeListener = changeListener;
+        if (this.ownershipData instanceof SatelliteOwnershipDataImpl impl) {
+            impl.setChangeListener(changeListener);
+        }
+    }
 
     public ResourceKey<Level> world() {return world;}
 
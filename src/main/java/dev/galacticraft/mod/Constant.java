@@ -948,6 +948,7 @@ interface Command {
     interface Attachments {
         String SERVER_PLAYER = "server_player";
         String CLIENT_PLAYER = "client_player";
+        String FOOTPRINTS = "footprints";
     }
 
     interface Teleporters {
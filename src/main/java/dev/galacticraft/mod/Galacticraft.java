@@ -23,6 +23,7 @@
 package dev.galacticraft.mod;
 
 import dev.galacticraft.mod.api.config.Config;
+import dev.galacticraft.mod.attachments.GCAttachments;
 import dev.galacticraft.mod.command.GCCommands;
 import dev.galacticraft.mod.config.ConfigImpl;
 import dev.galacticraft.mod.content.*;
@@ -74,6 +75,7 @@ public void onInitialize() {
         GCApiLookupProviders.register();
         GCRecipes.register();
         GCEntityDataSerializers.register();
+        GCAttachments.register();
         GCEntityTypes.register();
         GCGases.register();
         GCOrePlacedFeatures.register();
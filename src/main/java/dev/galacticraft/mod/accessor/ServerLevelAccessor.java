@@ -22,10 +22,83 @@
 
 package dev.galacticraft.mod.accessor;
 
+import dev.galacticraft.mod.api.block.entity.AbstractSolarPanelBlockEntity;
+import dev.galacticraft.mod.api.wire.impl.WireNetworkImpl;
+import dev.galacticraft.mod.content.block.entity.machine.OxygenCollectorBlockEntity;
 import dev.galacticraft.mod.content.block.entity.machine.OxygenSealerBlockEntity;
+import it.unimi.dsi.fastutil.longs.LongCollection;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.core.BlockPos;
+
+import java.util.List;
 
 public interface ServerLevelAccessor {
-    void addSealer(OxygenSealerBlockEntity sealer);
+    /**
+     * Makes the given positions breathable on behalf of one oxygen source, such as a bubble distributor or a sealed area.
+     * Positions are reference counted, so overlapping sources can each acquire and release them independently.
+     *
+     * @param positions the packed positions (see {@link BlockPos#asLong()})
+     */
+    void acquireOxygen(LongCollection positions);
+
+    /**
+     * Releases positions previously acquired with {@link #acquireOxygen(LongCollection)}.
+     * A position only becomes unbreathable once every source providing it has released it.
+     *
+     * @param positions the packed positions (see {@link BlockPos#asLong()})
+     */
+    void releaseOxygen(LongCollection positions);
+
+    /**
+     * Returns whether any oxygen source currently provides the given position.
+     *
+     * @param pos the packed position (see {@link BlockPos#asLong()})
+     * @return whether the position has been acquired and not released yet
+     */
+    boolean isOxygenHeld(long pos);
+
+    /**
+     * Sets the chunk sections a sealer listens to block changes in.
+     *
+     * @param sealer the sealer
+     * @param sections the packed section positions (see {@link net.minecraft.core.SectionPos#asLong()})
+     */
+    void setSealerSections(OxygenSealerBlockEntity sealer, LongSet sections);
+
+    /**
+     * Sets the chunk sections an oxygen collector listens to block changes in.
+     *
+     * @param collector the collector
+     * @param sections the packed section positions (see {@link net.minecraft.core.SectionPos#asLong()})
+     */
+    void setCollectorSections(OxygenCollectorBlockEntity collector, LongSet sections);
+
+    /**
+     * Sets the block columns in which a solar panel listens to changes of the motion blocking heightmap.
+     *
+     * @param panel the solar panel
+     * @param columns the packed column positions (see {@link net.minecraft.core.BlockPos#asLong(int, int, int)}, with a y of 0)
+     */
+    void setSolarPanelColumns(AbstractSolarPanelBlockEntity panel, LongSet columns);
+
+    /**
+     * Queues the new size of an oxygen bubble to be sent with the next {@link #sendBubbleSizes()}.
+     * Later sizes of the same distributor replace earlier ones.
+     *
+     * @param pos the position of the bubble distributor
+     * @param size the new size of the bubble
+     */
+    void queueBubbleSize(BlockPos pos, float size);
+
+    /**
+     * Sends all queued bubble sizes to the players tracking the chunks they are in, bundled into one packet per player.
+     */
+    void sendBubbleSizes();
 
-    void removeSealer(OxygenSealerBlockEntity sealer);
+    /**
+     * Returns the wire networks of this level holding energy that is waiting to be settled at the end of the tick.
+     *
+     * @return the networks to settle
+     */
+    List<WireNetworkImpl> getUnsettledWireNetworks();
 }
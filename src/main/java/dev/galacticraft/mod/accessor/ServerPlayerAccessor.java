@@ -23,6 +23,7 @@
 package dev.galacticraft.mod.accessor;
 
 import dev.galacticraft.api.rocket.RocketData;
+import dev.galacticraft.mod.network.c2s.ControlEntityPayload;
 import org.jetbrains.annotations.Nullable;
 
 public interface ServerPlayerAccessor {
@@ -42,5 +43,14 @@ public interface ServerPlayerAccessor {
         throw new RuntimeException("This must be overridden!");
     }
 
+    /**
+     * Sets the input that is applied to the controllable vehicle of this player every tick, until a new input is received
+     * or it expires after {@link ControlEntityPayload#TIMEOUT} ticks.
+     *
+     * @param input the last input received from the client
+     */
+    default void galacticraft$setControlInput(ControlEntityPayload input) {
+        throw new RuntimeException("This must be overridden!");
+    }
 
 }
\ No newline at end of file
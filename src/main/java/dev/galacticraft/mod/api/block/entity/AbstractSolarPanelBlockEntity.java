@@ -28,10 +28,12 @@
 import dev.galacticraft.machinelib.api.machine.MachineStatuses;
 import dev.galacticraft.machinelib.api.storage.StorageSpec;
 import dev.galacticraft.machinelib.api.util.EnergySource;
-import dev.galacticraft.api.universe.celestialbody.CelestialBody;
+import dev.galacticraft.mod.accessor.ServerLevelAccessor;
 import dev.galacticraft.mod.machine.GCMachineStatuses;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.longs.LongSets;
 import net.minecraft.core.BlockPos;
-import net.minecraft.core.Holder;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.util.profiling.ProfilerFiller;
 import net.minecraft.world.level.block.entity.BlockEntityType;
@@ -40,8 +42,21 @@
 
 public abstract class AbstractSolarPanelBlockEntity extends MachineBlockEntity implements SolarPanel {
     public static final int CHARGE_SLOT = 0;
+    /**
+     * Sky light is updated after the heightmap, so the blockage is re-evaluated for a few ticks after each change.
+     */
+    private static final int LIGHT_SETTLE_TICKS = 5;
+    /**
+     * Changes that do not move the heightmap (or send no block update) can still affect the sky light, so the blockage
+     * is re-evaluated every so often regardless.
+     */
+    private static final int BLOCKAGE_REFRESH_INTERVAL = 200;
     protected final boolean[] blockage = new boolean[9];
     protected int blocked = 0;
+    private boolean blockageValid = false;
+    private int blockageSettleTicks = 0;
+    private long blockageTime;
+    private boolean listening = false;
     public long currentEnergyGeneration = 0;
     private final EnergySource energySource = new EnergySource(this);
     private long dayLength = 24000;
@@ -55,8 +70,16 @@ public void tickConstant(@NotNull ServerLevel level, @NotNull BlockPos pos, @Not
         profiler.push("charge");
         this.drainPowerToSlot(CHARGE_SLOT);
         profiler.popPush("blockage");
+        if (!this.blockageValid || this.blockageSettleTicks > 0 || level.getGameTime() - this.blockageTime >= BLOCKAGE_REFRESH_INTERVAL) {
+            this.updateBlockage(level, pos);
+        }
+        this.dayLength = level.galacticraft$getEnvironment().dayLength();
+        profiler.pop();
+    }
+
+    private void updateBlockage(@NotNull ServerLevel level, @NotNull BlockPos pos) {
         this.blocked = 0;
-        for (int x = -1; x < 2; x++) { //todo: cache?
+        for (int x = -1; x < 2; x++) {
             for (int z = -1; z < 2; z++) {
                 //noinspection AssignmentUsedAsCondition
                 if (this.blockage[(z + 1) * 3 + (x + 1)] = !level.canSeeSky(pos.offset(x, 2, z))) {
@@ -64,11 +87,38 @@ public void tickConstant(@NotNull ServerLevel level, @NotNull BlockPos pos, @Not
                 }
             }
         }
-        Holder<CelestialBody<?, ?>> holder = level.galacticraft$getCelestialBody();
-        if (holder != null) {
-            dayLength = holder.value().dayLength();
+        this.blockageValid = true;
+        this.blockageTime = level.getGameTime();
+        if (this.blockageSettleTicks > 0) this.blockageSettleTicks--;
+
+        if (!this.listening) {
+            this.listening = true;
+            LongSet columns = new LongOpenHashSet(9);
+            for (int x = -1; x < 2; x++) {
+                for (int z = -1; z < 2; z++) {
+                    columns.add(BlockPos.asLong(pos.getX() + x, 0, pos.getZ() + z));
+                }
+            }
+            ((ServerLevelAccessor) level).setSolarPanelColumns(this, columns);
+        }
+    }
+
+    /**
+     * Called when the motion blocking heightmap changes in one of the columns above the panel.
+     */
+    public void onSkyChanged() {
+        this.blockageValid = false;
+        this.blockageSettleTicks = LIGHT_SETTLE_TICKS;
+    }
+
+    @Override
+    public void setRemoved() {
+        if (this.listening) {
+            this.listening = false;
+            ((ServerLevelAccessor) this.level).setSolarPanelColumns(this, LongSets.EMPTY_SET);
         }
-        profiler.pop();
+        this.blockageValid = false;
+        super.setRemoved();
     }
 
     @Override
@@ -61,6 +61,10 @@ public interface Config {
 
     boolean enableGcHouston();
 
+    int oxygenSyncInterval();
+
+    int satelliteUnloadDelay();
+
     void load();
 
     void save();
@@ -27,6 +27,7 @@
 import net.fabricmc.fabric.api.transfer.v1.fluid.FluidVariant;
 import net.fabricmc.fabric.api.transfer.v1.storage.Storage;
 import net.minecraft.core.Direction;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.Nullable;
 
@@ -44,6 +45,13 @@ public interface Pipe extends Connected, Colored {
     @Contract(pure = true)
     @Nullable PipeNetwork getNetwork();
 
+    /**
+     * Called once this pipe has joined a network, after every pipe joining alongside it has been assigned that network
+     */
+    @ApiStatus.Internal
+    default void onNetworkJoined() {
+    }
+
     /**
      * Returns whether this pipe is able to connect to another block on the specified face/direction
      * @param direction the direction offset to the block to check adjacency to
@@ -25,9 +25,13 @@
 import dev.galacticraft.mod.Constant;
 import dev.galacticraft.mod.api.pipe.Pipe;
 import dev.galacticraft.mod.api.pipe.PipeNetwork;
+import dev.galacticraft.mod.util.NetworkUtil;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import it.unimi.dsi.fastutil.objects.Object2LongMap;
 import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
-import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import net.fabricmc.fabric.api.transfer.v1.fluid.FluidStorage;
 import net.fabricmc.fabric.api.transfer.v1.fluid.FluidVariant;
 import net.fabricmc.fabric.api.transfer.v1.storage.Storage;
@@ -43,13 +47,13 @@
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.VisibleForTesting;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
 
 public class PipeNetworkImpl extends SnapshotParticipant<PipeNetworkImpl.PipeSnapshot> implements PipeNetwork {
     private final @NotNull ServerLevel level;
-    private final @NotNull Object2ObjectOpenHashMap<BlockPos, Storage<FluidVariant> @Nullable []> pipes = new Object2ObjectOpenHashMap<>(1);
+    private final @NotNull Long2ObjectOpenHashMap<PipeNode> pipes = new Long2ObjectOpenHashMap<>(1);
     private final long maxTransferRate;
     private boolean activeTransaction = false;
     private boolean markedForRemoval = false;
@@ -57,57 +61,119 @@ public class PipeNetworkImpl extends SnapshotParticipant<PipeNetworkImpl.PipeSna
     private long transferred = 0;
     private @Nullable FluidVariant currentVariant = null; //can transfer <maxTransferRate> amount of fluid of 1 type per tick
 
-    public PipeNetworkImpl(@NotNull ServerLevel level, long maxTransferRate, @NotNull BlockPos pos) {
+    private PipeNetworkImpl(@NotNull ServerLevel level, long maxTransferRate) {
         this.level = level;
         this.maxTransferRate = maxTransferRate;
         this.tickId = this.level.getServer().getTickCount();
-        this.addPipe(pos, null);
     }
 
-    private void addPipe(@NotNull BlockPos pos, @Nullable Pipe pipe) {
+    /**
+     * Connects the given pipe (and every pipe reachable from it that is not yet part of a network) to a network,
+     * merging any adjacent networks that it joins together.
+     *
+     * @param level the level the pipe is in
+     * @param maxTransferRate the transfer rate of the pipe
+     * @param pipe the pipe to connect
+     * @return the network that the pipe is now part of
+     */
+    public static @NotNull PipeNetwork create(@NotNull ServerLevel level, long maxTransferRate, @NotNull Pipe pipe) {
+        return new PipeNetworkImpl(level, maxTransferRate).addPipe(pipe);
+    }
+
+    /**
+     * Adds a pipe to this network, iteratively flooding through adjacent pipes that do not belong to a live network.
+     * Adjacent live networks are merged, with the smaller network being folded into the larger one.
+     *
+     * @param start the pipe to add
+     * @return the network that now contains the pipe (this network, unless it was merged into a larger one)
+     */
+    private @NotNull PipeNetworkImpl addPipe(@NotNull Pipe start) {
         assert !this.markedForRemoval;
-        if (pipe == null) {
-            pipe = (Pipe) this.level.getBlockEntity(pos);
-        }
-        assert pipe != null : "Attempted to add pipe that does not exist!";
-        assert pos.equals(((BlockEntity) pipe).getBlockPos());
-        assert this.isCompatibleWith(pipe);
-
-        if (pipe.getNetwork() != null) {
-            if (pipe.getNetwork() != this && !pipe.getNetwork().markedForRemoval()) {
-                pipe.getNetwork().markForRemoval();
-                this.pipes.putAll(((PipeNetworkImpl) pipe.getNetwork()).pipes);
-            }
-        }
-        pipe.setNetwork(this);
-        this.pipes.put(pos, null);
+        assert this.isCompatibleWith(start);
+
+        PipeNetworkImpl network = this;
+        List<Pipe> added = new ArrayList<>();
+        ArrayDeque<Pipe> pending = new ArrayDeque<>();
+        pending.add(start);
+
+        while (!pending.isEmpty()) {
+            Pipe pipe = pending.poll();
+            BlockPos pos = ((BlockEntity) pipe).getBlockPos();
+            if (network.pipes.containsKey(pos.asLong())) continue;
+
+            PipeNode node = new PipeNode(pipe);
+            network.pipes.put(pos.asLong(), node);
+            added.add(pipe);
+
+            for (Direction direction : Constant.Misc.DIRECTIONS) {
+                if (!pipe.canConnect(direction)) continue;
 
-        for (Direction direction : Constant.Misc.DIRECTIONS) {
-            if (pipe.canConnect(direction)) {
                 BlockPos adjacentPos = pos.relative(direction);
-                BlockEntity blockEntity = level.getBlockEntity(adjacentPos);
+                BlockEntity blockEntity = network.level.getBlockEntity(adjacentPos);
                 if (blockEntity != null && !blockEntity.isRemoved()) {
                     if (blockEntity instanceof Pipe adjacent) {
                         if (!pipe.isColorCompatible(adjacent)) continue;
-                        if (this.isCompatibleWith(adjacent)) {
-                            if (adjacent.getNetwork() != this && adjacent.canConnect(direction.getOpposite())) {
-                                this.addPipe(adjacentPos, adjacent);
+                        if (network.isCompatibleWith(adjacent)) {
+                            if (adjacent.canConnect(direction.getOpposite())) {
+                                if (adjacent.getNetwork() instanceof PipeNetworkImpl other && other != network
+                                        && !other.markedForRemoval && other.pipes.containsKey(adjacentPos.asLong())) {
+                                    network = merge(network, other);
+                                }
+
+                                PipeNode adjacentNode = network.pipes.get(adjacentPos.asLong());
+                                if (adjacentNode != null) {
+                                    node.links |= 1 << direction.get3DDataValue();
+                                    adjacentNode.links |= 1 << direction.getOpposite().get3DDataValue();
+                                } else {
+                                    pending.add(adjacent);
+                                }
                             }
                             continue;
                         }
                     }
                 }
 
-                Storage<FluidVariant> storage = FluidStorage.SIDED.find(this.level, adjacentPos, direction.getOpposite());
+                Storage<FluidVariant> storage = FluidStorage.SIDED.find(network.level, adjacentPos, direction.getOpposite());
                 if (storage != null && storage.supportsInsertion()) {
-                    //noinspection Java8MapApi
-                    if (this.pipes.get(pos) == null) this.pipes.put(pos, new Storage[6]);
-                    Objects.requireNonNull(this.pipes.get(pos))[direction.get3DDataValue()] = storage;
+                    if (node.storages == null) node.storages = new Storage[6];
+                    node.storages[direction.get3DDataValue()] = storage;
                 }
             }
         }
+
+        // assign every added pipe before notifying any neighbours, so that re-entrant updates never flood a pipe twice
+        List<Pipe> joined = new ArrayList<>(added.size());
+        for (Pipe pipe : added) {
+            if (pipe.getNetwork() == null || pipe.getNetwork().markedForRemoval()) {
+                joined.add(pipe);
+            }
+            pipe.setNetwork(network);
+        }
+        for (Pipe pipe : joined) {
+            pipe.onNetworkJoined();
+        }
+        return network;
     }
-    
+
+    private static @NotNull PipeNetworkImpl merge(@NotNull PipeNetworkImpl a, @NotNull PipeNetworkImpl b) {
+        PipeNetworkImpl survivor = a.pipes.size() >= b.pipes.size() ? a : b;
+        PipeNetworkImpl absorbed = survivor == a ? b : a;
+
+        for (PipeNode node : absorbed.pipes.values()) {
+            // members of the absorbed network that are still being flooded are assigned once flooding completes
+            if (node.pipe.getNetwork() == absorbed) {
+                node.pipe.setNetwork(survivor);
+            }
+        }
+        // never replace a node the survivor already owns, as that would leave its neighbours with one-sided links
+        for (Long2ObjectMap.Entry<PipeNode> entry : absorbed.pipes.long2ObjectEntrySet()) {
+            survivor.pipes.putIfAbsent(entry.getLongKey(), entry.getValue());
+        }
+        absorbed.pipes.clear();
+        absorbed.markForRemoval();
+        return survivor;
+    }
+
     public void removePipe(@NotNull BlockPos removedPos) {
         if (!this.level.isLoaded(removedPos)) {
             Constant.LOGGER.debug("Removing pipe from unloaded chunk, removing entire network");
@@ -116,62 +182,67 @@ public void removePipe(@NotNull BlockPos removedPos) {
         }
 
         assert !this.markedForRemoval;
-        assert this.pipes.containsKey(removedPos) : "Tried to remove pipe that does not exist!";
+        assert this.pipes.containsKey(removedPos.asLong()) : "Tried to remove pipe that does not exist!";
 
-        this.pipes.remove(removedPos);
+        PipeNode removed = this.pipes.remove(removedPos.asLong());
+        removed.pipe.setNetwork(null);
         if (this.pipes.isEmpty()) {
             this.markForRemoval();
             return;
         }
 
-        List<Pipe> adjacent = new ArrayList<>(6);
-
+        LongArrayList adjacent = new LongArrayList(6);
         for (Direction direction : Constant.Misc.DIRECTIONS) {
-            BlockPos adjacentPipePos = removedPos.relative(direction);
-            if (this.pipes.containsKey(adjacentPipePos)) {
-                Pipe pipe1 = (Pipe) Objects.requireNonNull(this.level.getBlockEntity(adjacentPipePos));
-                if (pipe1.canConnect(direction.getOpposite())) {
-                    adjacent.add(pipe1); // Don't bother testing if it was unable to connect
+            if ((removed.links & (1 << direction.get3DDataValue())) != 0) {
+                long adjacentPos = BlockPos.offset(removedPos.asLong(), direction);
+                PipeNode node = this.pipes.get(adjacentPos);
+                if (node != null) {
+                    node.links &= ~(1 << direction.getOpposite().get3DDataValue());
+                    adjacent.add(adjacentPos);
                 }
             }
         }
 
-        assert !adjacent.isEmpty() : "Pipe was removed but no adjacent pipes were found";
-        if (adjacent.size() == 1) {
+        if (adjacent.size() <= 1) {
             return;
         }
 
-        this.markForRemoval();
-
-        for (Pipe pipe1 : adjacent) {
-            if (pipe1.getNetwork() == this) {
-                pipe1.setNetwork(null);
-                pipe1.forceCreateNetwork();
+        for (LongArrayList component : NetworkUtil.findDetachedComponents(adjacent.toLongArray(), pos -> {
+            PipeNode node = this.pipes.get(pos);
+            return node == null ? 0 : node.links;
+        })) {
+            PipeNetworkImpl split = new PipeNetworkImpl(this.level, this.maxTransferRate);
+            for (int i = 0; i < component.size(); i++) {
+                long pos = component.getLong(i);
+                PipeNode node = this.pipes.remove(pos);
+                split.pipes.put(pos, node);
+                node.pipe.setNetwork(split);
             }
         }
     }
 
     @Override
     public void updateConnection(@NotNull BlockPos pipePos, @NotNull BlockPos adjacentPos, @NotNull Direction direction) {
-        assert this.pipes.containsKey(pipePos);
+        PipeNode node = this.pipes.get(pipePos.asLong());
+        assert node != null;
         assert !this.markedForRemoval;
 
         if (this.level.getBlockEntity(adjacentPos) instanceof Pipe pipe && this.isCompatibleWith(pipe)) {
-            if (!this.pipes.containsKey(adjacentPos)) {
-                this.addPipe(adjacentPos, pipe);
+            if (!this.pipes.containsKey(adjacentPos.asLong()) && node.pipe.canConnect(direction) && pipe.canConnect(direction.getOpposite())
+                    && node.pipe.isColorCompatible(pipe)) {
+                this.addPipe(pipe);
             }
         } else {
-            if (this.pipes.containsKey(adjacentPos)) {
+            if (this.pipes.containsKey(adjacentPos.asLong())) {
                 this.removePipe(adjacentPos);
             }
 
             Storage<FluidVariant> storage = FluidStorage.SIDED.find(this.level, adjacentPos, direction.getOpposite());
             if (storage != null && storage.supportsInsertion()) {
-                //noinspection Java8MapApi
-                if (this.pipes.get(pipePos) == null) this.pipes.put(pipePos, new Storage[6]);
-                Objects.requireNonNull(this.pipes.get(pipePos))[direction.get3DDataValue()] = storage;
-            } else if (this.pipes.get(pipePos) != null) {
-                Objects.requireNonNull(this.pipes.get(pipePos))[direction.get3DDataValue()] = null;
+                if (node.storages == null) node.storages = new Storage[6];
+                node.storages[direction.get3DDataValue()] = storage;
+            } else if (node.storages != null) {
+                node.storages[direction.get3DDataValue()] = null;
             }
         }
     }
@@ -196,9 +267,9 @@ public long insert(@NotNull FluidVariant resource, long amount, @NotNull Transac
         long totalRequested = 0;
         Object2LongMap<Storage<FluidVariant>> requests = new Object2LongOpenHashMap<>();
 
-        for (Storage<FluidVariant>[] storages : this.pipes.values()) {
-            if (storages != null) {
-                for (Storage<FluidVariant> storage : storages) {
+        for (PipeNode node : this.pipes.values()) {
+            if (node.storages != null) {
+                for (Storage<FluidVariant> storage : node.storages) {
                     if (storage != null) {
                         try (Transaction simulation = Transaction.openNested(transaction)) {
                             long inserted = storage.insert(resource, amount, simulation);
@@ -260,7 +331,7 @@ public boolean isCompatibleWith(@NotNull Pipe pipe) {
     public String toString() {
         return "PipeNetworkImpl{" +
                 "level=" + level.dimension().location() +
-                ", pipes=" + pipes +
+                ", pipes=" + pipes.size() +
                 ", markedForRemoval=" + markedForRemoval +
                 ", maxTransferRate=" + maxTransferRate +
                 ", tickId=" + tickId +
@@ -282,9 +353,22 @@ protected void readSnapshot(PipeSnapshot snapshot) {
 
     @ApiStatus.Internal
     @VisibleForTesting
-    public @NotNull Object2ObjectOpenHashMap<BlockPos, Storage<FluidVariant>[]> getPipes() {
-        return pipes;
+    public @NotNull LongSet getPipes() {
+        return this.pipes.keySet();
     }
 
     public record PipeSnapshot(FluidVariant variant, long transferred) {}
+
+    private static final class PipeNode {
+        private final @NotNull Pipe pipe;
+        private Storage<FluidVariant> @Nullable [] storages = null;
+        /**
+         * Bitmask (indexed by {@link Direction#get3DDataValue()}) of the adjacent pipes in the same network this pipe is linked to.
+         */
+        private int links = 0;
+
+        private PipeNode(@NotNull Pipe pipe) {
+            this.pipe = pipe;
+        }
+    }
 }
\ No newline at end of file
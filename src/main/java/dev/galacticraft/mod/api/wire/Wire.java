@@ -43,6 +43,13 @@ public interface Wire extends Connected {
     @Contract(pure = true)
     @Nullable WireNetwork getNetwork();
 
+    /**
+     * Called once this wire has joined a network, after every wire joining alongside it has been assigned that network
+     */
+    @ApiStatus.Internal
+    default void onNetworkJoined() {
+    }
+
     /**
      * Returns whether this wire is able to connect to another block on the specified face/direction
      * @param direction the direction offset to the block to check adjacency to
@@ -41,10 +41,11 @@ public interface WireNetwork {
     void updateConnection(@NotNull BlockPos adjacentToUpdated, @NotNull BlockPos updatedPos, @NotNull Direction direction);
 
     /**
-     * Inserts energy into the network
+     * Offers energy to the network.
+     * Accepted energy is pooled and distributed to the network's consumers at the end of the tick.
      * @param amount The amount of energy to insert
      * @param transaction Whether to perform the action or not
-     * @return the amount of energy that failed to insert
+     * @return the amount of energy that was accepted
      */
     long insert(long amount, @NotNull TransactionContext transaction);
 
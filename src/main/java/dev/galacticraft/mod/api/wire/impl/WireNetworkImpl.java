@@ -23,12 +23,15 @@
 package dev.galacticraft.mod.api.wire.impl;
 
 import dev.galacticraft.mod.Constant;
+import dev.galacticraft.mod.accessor.ServerLevelAccessor;
 import dev.galacticraft.mod.api.wire.Wire;
 import dev.galacticraft.mod.api.wire.WireNetwork;
-import dev.galacticraft.mod.content.block.entity.networked.WireBlockEntity;
-import it.unimi.dsi.fastutil.objects.Object2LongMap;
-import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
-import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import dev.galacticraft.mod.util.NetworkUtil;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 import net.fabricmc.fabric.api.transfer.v1.transaction.Transaction;
 import net.fabricmc.fabric.api.transfer.v1.transaction.TransactionContext;
 import net.fabricmc.fabric.api.transfer.v1.transaction.base.SnapshotParticipant;
@@ -42,65 +45,154 @@
 import org.jetbrains.annotations.VisibleForTesting;
 import team.reborn.energy.api.EnergyStorage;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Objects;
 
-public class WireNetworkImpl extends SnapshotParticipant<Long> implements WireNetwork {
+public class WireNetworkImpl extends SnapshotParticipant<WireNetworkImpl.WireSnapshot> implements WireNetwork {
     private final @NotNull ServerLevel level;
-    private final @NotNull Object2ObjectOpenHashMap<BlockPos, EnergyStorage @Nullable []> wires = new Object2ObjectOpenHashMap<>(1);
+    private final @NotNull Long2ObjectOpenHashMap<WireNode> wires = new Long2ObjectOpenHashMap<>(1);
     private final long maxTransferRate;
     private boolean markedForRemoval = false;
     private boolean activeTransaction = false;
     private long tickId;
     private long transferred = 0;
-
-    public WireNetworkImpl(@NotNull ServerLevel level, long maxTransferRate, @NotNull BlockPos pos) {
+    /**
+     * Energy accepted from producers that has not been distributed to consumers yet.
+     */
+    private long pending = 0;
+    private boolean scheduled = false;
+
+    /**
+     * Compacted list of every distinct insertable endpoint of this network.
+     * Rebuilt lazily (on the next insertion) after the topology changes.
+     */
+    private EnergyStorage[] consumers = new EnergyStorage[0];
+    private int consumerCount = 0;
+    private boolean consumersDirty = true;
+    /**
+     * Scratch buffer holding the simulated demand of each consumer, indexed in parallel with {@link #consumers}.
+     */
+    private long[] requested = new long[0];
+    private long totalRequested = 0;
+    private long demandTickId = -1;
+
+    private WireNetworkImpl(@NotNull ServerLevel level, long maxTransferRate) {
         this.level = level;
         this.maxTransferRate = maxTransferRate;
         this.tickId = this.level.getServer().getTickCount();
-        this.addWire(pos, null);
     }
 
-    private void addWire(@NotNull BlockPos pos, @Nullable Wire wire) {
+    /**
+     * Connects the given wire (and every wire reachable from it that is not yet part of a network) to a network,
+     * merging any adjacent networks that it joins together.
+     *
+     * @param level the level the wire is in
+     * @param maxTransferRate the transfer rate of the wire
+     * @param wire the wire to connect
+     * @return the network that the wire is now part of
+     */
+    public static @NotNull WireNetwork create(@NotNull ServerLevel level, long maxTransferRate, @NotNull Wire wire) {
+        return new WireNetworkImpl(level, maxTransferRate).addWire(wire);
+    }
+
+    /**
+     * Adds a wire to this network, iteratively flooding through adjacent wires that do not belong to a live network.
+     * Adjacent live networks are merged, with the smaller network being folded into the larger one.
+     *
+     * @param start the wire to add
+     * @return the network that now contains the wire (this network, unless it was merged into a larger one)
+     */
+    private @NotNull WireNetworkImpl addWire(@NotNull Wire start) {
         assert !this.markedForRemoval;
-        if (wire == null) {
-            wire = (Wire) this.level.getBlockEntity(pos);
-        }
-        assert wire != null : "Attempted to add wire that does not exist!";
-        assert pos.equals(((BlockEntity) wire).getBlockPos());
-        assert this.isCompatibleWith(wire);
-
-        if (wire.getNetwork() != null) {
-            if (wire.getNetwork() != this && !wire.getNetwork().markedForRemoval()) {
-                wire.getNetwork().markForRemoval();
-                this.wires.putAll(((WireNetworkImpl) wire.getNetwork()).wires);
-            }
-        }
-        wire.setNetwork(this);
-        this.wires.put(pos, null);
+        assert this.isCompatibleWith(start);
+
+        WireNetworkImpl network = this;
+        List<Wire> added = new ArrayList<>();
+        ArrayDeque<Wire> queue = new ArrayDeque<>();
+        queue.add(start);
+
+        while (!queue.isEmpty()) {
+            Wire wire = queue.poll();
+            BlockPos pos = ((BlockEntity) wire).getBlockPos();
+            if (network.wires.containsKey(pos.asLong())) continue;
+
+            WireNode node = new WireNode(wire);
+            network.wires.put(pos.asLong(), node);
+            added.add(wire);
+
+            for (Direction direction : Constant.Misc.DIRECTIONS) {
+                if (!wire.canConnect(direction)) continue;
 
-        for (Direction direction : Constant.Misc.DIRECTIONS) {
-            if (wire.canConnect(direction)) {
                 BlockPos adjacentPos = pos.relative(direction);
-                BlockEntity blockEntity = level.getBlockEntity(adjacentPos);
+                BlockEntity blockEntity = network.level.getBlockEntity(adjacentPos);
                 if (blockEntity != null && !blockEntity.isRemoved()) {
-                    if (blockEntity instanceof Wire adjacent && this.isCompatibleWith(adjacent)) {
-                        if (adjacent.getNetwork() != this && adjacent.canConnect(direction.getOpposite())) {
-                            this.addWire(adjacentPos, adjacent);
+                    if (blockEntity instanceof Wire adjacent && network.isCompatibleWith(adjacent)) {
+                        if (adjacent.canConnect(direction.getOpposite())) {
+                            if (adjacent.getNetwork() instanceof WireNetworkImpl other && other != network
+                                    && !other.markedForRemoval && other.wires.containsKey(adjacentPos.asLong())) {
+                                network = merge(network, other);
+                            }
+
+                            WireNode adjacentNode = network.wires.get(adjacentPos.asLong());
+                            if (adjacentNode != null) {
+                                node.links |= 1 << direction.get3DDataValue();
+                                adjacentNode.links |= 1 << direction.getOpposite().get3DDataValue();
+                            } else {
+                                queue.add(adjacent);
+                            }
                         }
                         continue;
                     }
                 }
 
-                EnergyStorage storage = EnergyStorage.SIDED.find(this.level, adjacentPos, direction.getOpposite());
+                EnergyStorage storage = EnergyStorage.SIDED.find(network.level, adjacentPos, direction.getOpposite());
                 if (storage != null && storage.supportsInsertion()) {
-                    //noinspection Java8MapApi
-                    if (this.wires.get(pos) == null) this.wires.put(pos, new EnergyStorage[6]);
-                    Objects.requireNonNull(this.wires.get(pos))[direction.get3DDataValue()] = storage;
+                    if (node.storages == null) node.storages = new EnergyStorage[6];
+                    node.storages[direction.get3DDataValue()] = storage;
                 }
             }
         }
+        network.consumersDirty = true;
+
+        // assign every added wire before notifying any neighbours, so that re-entrant updates never flood a wire twice
+        List<Wire> joined = new ArrayList<>(added.size());
+        for (Wire wire : added) {
+            if (wire.getNetwork() == null || wire.getNetwork().markedForRemoval()) {
+                joined.add(wire);
+            }
+            wire.setNetwork(network);
+        }
+        for (Wire wire : joined) {
+            wire.onNetworkJoined();
+        }
+        return network;
+    }
+
+    private static @NotNull WireNetworkImpl merge(@NotNull WireNetworkImpl a, @NotNull WireNetworkImpl b) {
+        WireNetworkImpl survivor = a.wires.size() >= b.wires.size() ? a : b;
+        WireNetworkImpl absorbed = survivor == a ? b : a;
+
+        for (WireNode node : absorbed.wires.values()) {
+            // members of the absorbed network that are still being flooded are assigned once flooding completes
+            if (node.wire.getNetwork() == absorbed) {
+                node.wire.setNetwork(survivor);
+            }
+        }
+        // never replace a node the survivor already owns, as that would leave its neighbours with one-sided links
+        for (Long2ObjectMap.Entry<WireNode> entry : absorbed.wires.long2ObjectEntrySet()) {
+            survivor.wires.putIfAbsent(entry.getLongKey(), entry.getValue());
+        }
+        survivor.consumersDirty = true;
+        if (absorbed.pending > 0) {
+            survivor.pending += absorbed.pending;
+            absorbed.pending = 0;
+            survivor.scheduleSettlement();
+        }
+        absorbed.wires.clear();
+        absorbed.markForRemoval();
+        return survivor;
     }
 
     public void removeWire(@NotNull BlockPos removedPos) {
@@ -111,66 +203,82 @@ public void removeWire(@NotNull BlockPos removedPos) {
         }
 
         assert !this.markedForRemoval;
-        assert this.wires.containsKey(removedPos) : "Tried to remove wire that does not exist!";
+        assert this.wires.containsKey(removedPos.asLong()) : "Tried to remove wire that does not exist!";
 
-        this.wires.remove(removedPos);
+        WireNode removed = this.wires.remove(removedPos.asLong());
+        removed.wire.setNetwork(null);
+        this.consumersDirty = true;
         if (this.wires.isEmpty()) {
             this.markForRemoval();
             return;
         }
 
-        List<Wire> adjacent = new ArrayList<>(6);
-
+        LongArrayList adjacent = new LongArrayList(6);
         for (Direction direction : Constant.Misc.DIRECTIONS) {
-            BlockPos adjacentWirePos = removedPos.relative(direction);
-            if (this.wires.containsKey(adjacentWirePos)) {
-                Wire wire1 = (Wire) Objects.requireNonNull(this.level.getBlockEntity(adjacentWirePos));
-                if (wire1.canConnect(direction.getOpposite())) {
-                    adjacent.add(wire1); // Don't bother testing if it was unable to connect
+            if ((removed.links & (1 << direction.get3DDataValue())) != 0) {
+                long adjacentPos = BlockPos.offset(removedPos.asLong(), direction);
+                WireNode node = this.wires.get(adjacentPos);
+                if (node != null) {
+                    node.links &= ~(1 << direction.getOpposite().get3DDataValue());
+                    adjacent.add(adjacentPos);
                 }
             }
         }
 
-        assert !adjacent.isEmpty() : "Wire was removed but no adjacent wires were found";
-        if (adjacent.size() == 1) {
+        if (adjacent.size() <= 1) {
             return;
         }
 
-        this.markForRemoval();
-
-        for (Wire wire1 : adjacent) {
-            if (wire1.getNetwork() == this) {
-                wire1.setNetwork(null);
-                ((WireBlockEntity) wire1).createNetwork();
+        for (LongArrayList component : NetworkUtil.findDetachedComponents(adjacent.toLongArray(), pos -> {
+            WireNode node = this.wires.get(pos);
+            return node == null ? 0 : node.links;
+        })) {
+            WireNetworkImpl split = new WireNetworkImpl(this.level, this.maxTransferRate);
+            for (int i = 0; i < component.size(); i++) {
+                long pos = component.getLong(i);
+                WireNode node = this.wires.remove(pos);
+                split.wires.put(pos, node);
+                node.wire.setNetwork(split);
             }
         }
     }
 
     @Override
     public void updateConnection(@NotNull BlockPos wirePos, @NotNull BlockPos adjacentPos, @NotNull Direction direction) {
-        assert this.wires.containsKey(wirePos);
+        WireNode node = this.wires.get(wirePos.asLong());
+        assert node != null;
         assert !this.markedForRemoval;
 
         if (this.level.getBlockEntity(adjacentPos) instanceof Wire wire && this.isCompatibleWith(wire)) {
-            if (!this.wires.containsKey(adjacentPos)) {
-                this.addWire(adjacentPos, wire);
+            if (!this.wires.containsKey(adjacentPos.asLong()) && node.wire.canConnect(direction) && wire.canConnect(direction.getOpposite())) {
+                this.addWire(wire);
             }
         } else {
-            if (this.wires.containsKey(adjacentPos)) {
+            if (this.wires.containsKey(adjacentPos.asLong())) {
                 this.removeWire(adjacentPos);
             }
 
             EnergyStorage storage = EnergyStorage.SIDED.find(this.level, adjacentPos, direction.getOpposite());
             if (storage != null && storage.supportsInsertion()) {
-                //noinspection Java8MapApi
-                if (this.wires.get(wirePos) == null) this.wires.put(wirePos, new EnergyStorage[6]);
-                Objects.requireNonNull(this.wires.get(wirePos))[direction.get3DDataValue()] = storage;
-            } else if (this.wires.get(wirePos) != null) {
-                Objects.requireNonNull(this.wires.get(wirePos))[direction.get3DDataValue()] = null;
+                if (node.storages == null) node.storages = new EnergyStorage[6];
+                node.storages[direction.get3DDataValue()] = storage;
+            } else if (node.storages != null) {
+                node.storages[direction.get3DDataValue()] = null;
+            }
+
+            // the wire may have been split off into a new network by the removal above
+            if (node.wire.getNetwork() instanceof WireNetworkImpl network) {
+                network.consumersDirty = true;
             }
         }
     }
 
+    /**
+     * Accepts energy offered by a producer. The energy is not handed to consumers immediately; instead every offer
+     * made during a tick is pooled and distributed in a single pass at the end of the tick (see {@link #settle(ServerLevel)}).
+     * Offers are limited by the transfer rate of the network and the demand of its consumers, which is only
+     * simulated once per tick.
+     */
     @Override
     public long insert(long amount, @NotNull TransactionContext transaction) {
         if (this.activeTransaction) return 0;
@@ -186,46 +294,113 @@ public long insert(long amount, @NotNull TransactionContext transaction) {
             this.activeTransaction = false;
             return 0;
         }
-        long totalRequested = 0;
-        Object2LongMap<EnergyStorage> requests = new Object2LongOpenHashMap<>();
 
-        for (EnergyStorage[] storages : this.wires.values()) {
-            if (storages != null) {
-                for (EnergyStorage storage : storages) {
-                    if (storage != null) {
-                        try (Transaction simulation = Transaction.openNested(transaction)) {
-                            long inserted = storage.insert(amount, simulation);
-                            if (inserted > 0) {
-                                totalRequested += inserted;
-                                requests.put(storage, inserted);
-                            }
-                            simulation.abort();
-                        }
-                    }
-                }
+        this.updateDemand(transaction);
+        amount = Math.min(amount, this.totalRequested - this.pending);
+        if (amount <= 0) {
+            this.activeTransaction = false;
+            return 0;
+        }
+
+        this.updateSnapshots(transaction);
+        this.transferred += amount;
+        this.pending += amount;
+
+        this.activeTransaction = false;
+        return amount;
+    }
+
+    /**
+     * Simulates how much energy each consumer is able to accept, at most once per tick (or after the topology changes).
+     */
+    private void updateDemand(@NotNull TransactionContext transaction) {
+        if (!this.consumersDirty && this.demandTickId == this.tickId) return;
+        if (this.consumersDirty) {
+            this.rebuildConsumers();
+        }
+
+        this.demandTickId = this.tickId;
+        this.totalRequested = 0;
+        try (Transaction simulation = Transaction.openNested(transaction)) {
+            for (int i = 0; i < this.consumerCount; i++) {
+                long inserted = this.consumers[i].insert(this.maxTransferRate, simulation);
+                this.requested[i] = inserted;
+                this.totalRequested += inserted;
             }
+            simulation.abort();
         }
+    }
 
-        if (totalRequested == 0) {
-            this.activeTransaction = false;
-            return 0;
+    /**
+     * Distributes the pooled offers to all consumers proportionally to their demand.
+     * Energy that the consumers end up refusing is kept and offered again next tick.
+     */
+    private void distribute() {
+        this.scheduled = false;
+        if (this.markedForRemoval || this.pending == 0) return;
+
+        try (Transaction transaction = Transaction.openOuter()) {
+            this.updateDemand(transaction);
+            if (this.totalRequested == 0) return;
+
+            double ratio = Math.min(1.0, (double) this.pending / (double) this.totalRequested);
+            long delivered = 0;
+            for (int i = 0; i < this.consumerCount; i++) {
+                long insert = (long) (this.requested[i] * ratio);
+                if (insert > 0) {
+                    delivered += this.consumers[i].insert(insert, transaction);
+                }
+            }
+            transaction.commit();
+            this.pending -= delivered;
         }
+    }
 
-        double ratio = Math.min(1.0, (double)amount / (double)totalRequested);
-        final long baseTransferred = this.transferred;
+    /**
+     * Settles the energy offered to every network in the given level during this tick.
+     * Called once at the end of each level tick.
+     *
+     * @param level the level that finished ticking
+     */
+    public static void settle(@NotNull ServerLevel level) {
+        List<WireNetworkImpl> unsettled = ((ServerLevelAccessor) level).getUnsettledWireNetworks();
+        if (unsettled.isEmpty()) return;
+
+        // delivering energy may schedule further networks, so the size is read again on every iteration
+        for (int i = 0; i < unsettled.size(); i++) {
+            unsettled.get(i).distribute();
+        }
+        unsettled.clear();
+    }
 
-        this.updateSnapshots(transaction);
+    private void scheduleSettlement() {
+        if (!this.scheduled) {
+            this.scheduled = true;
+            ((ServerLevelAccessor) this.level).getUnsettledWireNetworks().add(this);
+        }
+    }
 
-        requests.forEach((storage, requested) -> {
-            long insert = (long) (requested * ratio);
-            if (insert > 0) {
-                insert = storage.insert(insert, transaction);
-                this.transferred += insert;
+    private void rebuildConsumers() {
+        ReferenceOpenHashSet<EnergyStorage> unique = new ReferenceOpenHashSet<>();
+        for (WireNode node : this.wires.values()) {
+            if (node.storages != null) {
+                for (EnergyStorage storage : node.storages) {
+                    if (storage != null) {
+                        unique.add(storage);
+                    }
+                }
             }
-        });
+        }
 
-        this.activeTransaction = false;
-        return this.transferred - baseTransferred;
+        this.consumerCount = unique.size();
+        if (this.consumers.length < this.consumerCount) {
+            this.consumers = new EnergyStorage[this.consumerCount];
+            this.requested = new long[this.consumerCount];
+        } else {
+            Arrays.fill(this.consumers, this.consumerCount, this.consumers.length, null);
+        }
+        unique.toArray(this.consumers);
+        this.consumersDirty = false;
     }
 
     @Override
@@ -240,6 +415,10 @@ public boolean markedForRemoval() {
 
     @Override
     public void markForRemoval() {
+        // hand over the energy producers already gave to this network, as it would otherwise be destroyed along with it
+        if (!this.markedForRemoval && this.pending > 0 && !Transaction.isOpen()) {
+            this.distribute();
+        }
         this.markedForRemoval = true;
     }
 
@@ -252,27 +431,51 @@ public boolean isCompatibleWith(@NotNull Wire wire) {
     public String toString() {
         return "WireNetworkImpl{" +
                 "level=" + level.dimension().location() +
-                ", wires=" + wires +
+                ", wires=" + wires.size() +
                 ", markedForRemoval=" + markedForRemoval +
                 ", maxTransferRate=" + maxTransferRate +
                 ", tickId=" + tickId +
                 ", transferred=" + transferred +
+                ", pending=" + pending +
                 '}';
     }
 
     @VisibleForTesting
     @ApiStatus.Internal
-    public @NotNull Object2ObjectOpenHashMap<BlockPos, EnergyStorage[]> getWires() {
-        return wires;
+    public @NotNull LongSet getWires() {
+        return this.wires.keySet();
     }
 
     @Override
-    protected Long createSnapshot() {
-        return this.transferred;
+    protected WireSnapshot createSnapshot() {
+        return new WireSnapshot(this.transferred, this.pending);
     }
 
     @Override
-    protected void readSnapshot(Long snapshot) {
-        this.transferred = snapshot;
+    protected void readSnapshot(WireSnapshot snapshot) {
+        this.transferred = snapshot.transferred;
+        this.pending = snapshot.pending;
+    }
+
+    @Override
+    protected void onFinalCommit() {
+        if (this.pending > 0) {
+            this.scheduleSettlement();
+        }
+    }
+
+    public record WireSnapshot(long transferred, long pending) {}
+
+    private static final class WireNode {
+        private final @NotNull Wire wire;
+        private EnergyStorage @Nullable [] storages = null;
+        /**
+         * Bitmask (indexed by {@link Direction#get3DDataValue()}) of the adjacent wires in the same network this wire is linked to.
+         */
+        private int links = 0;
+
+        private WireNode(@NotNull Wire wire) {
+            this.wire = wire;
+        }
     }
 }
@@ -24,6 +24,7 @@
 
 import dev.galacticraft.mod.Constant;
 import dev.galacticraft.mod.Constant.Attachments;
+import dev.galacticraft.mod.misc.footprint.FootprintChunk;
 import net.fabricmc.fabric.api.attachment.v1.AttachmentRegistry;
 import net.fabricmc.fabric.api.attachment.v1.AttachmentType;
 
@@ -36,4 +37,11 @@ public final class GCAttachments {
 
     public static final AttachmentType<GCClientPlayer> CLIENT_PLAYER = AttachmentRegistry.<GCClientPlayer>builder()
             .buildAndRegister(Constant.id(Attachments.CLIENT_PLAYER));
+
+    public static final AttachmentType<FootprintChunk> FOOTPRINTS = AttachmentRegistry.<FootprintChunk>builder()
+            .persistent(FootprintChunk.CODEC)
+            .initializer(FootprintChunk::new)
+            .buildAndRegister(Constant.id(Attachments.FOOTPRINTS));
+
+    public static void register() {}
 }
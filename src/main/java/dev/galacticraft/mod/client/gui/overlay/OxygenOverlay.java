@@ -23,7 +23,6 @@
 package dev.galacticraft.mod.client.gui.overlay;
 
 import dev.galacticraft.api.gas.Gases;
-import dev.galacticraft.api.universe.celestialbody.CelestialBody;
 import dev.galacticraft.machinelib.api.util.StorageHelper;
 import dev.galacticraft.mod.Constant;
 import dev.galacticraft.mod.util.DrawableUtil;
@@ -34,7 +33,6 @@
 import net.minecraft.client.DeltaTracker;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.GuiGraphics;
-import net.minecraft.core.Holder;
 import net.minecraft.tags.FluidTags;
 import net.minecraft.world.Container;
 
@@ -42,8 +40,7 @@ public class OxygenOverlay {
     public static void onHudRender(GuiGraphics graphics, DeltaTracker delta) {
         Minecraft mc = Minecraft.getInstance();
         if (!mc.options.hideGui && mc.level != null && mc.player != null && !mc.player.isSpectator()) {
-            Holder<CelestialBody<?, ?>> body = mc.level.galacticraft$getCelestialBody();
-            boolean nonBreathable = (body != null) && !body.value().atmosphere().breathable();
+            boolean nonBreathable = !mc.level.galacticraft$getEnvironment().breathable();
             if (mc.player.galacticraft$hasMaskAndGear() || nonBreathable) {
                 Container inv = mc.player.galacticraft$getOxygenTanks();
                 final int outline = 0x99FFFFFF;
@@ -26,57 +26,99 @@
 import com.mojang.blaze3d.vertex.VertexConsumer;
 import de.javagl.obj.*;
 import dev.galacticraft.mod.client.model.types.UnbakedObjModel;
+import it.unimi.dsi.fastutil.floats.FloatArrayList;
+import net.minecraft.client.renderer.texture.TextureAtlasSprite;
 import org.jetbrains.annotations.Nullable;
+import org.joml.Matrix4f;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
 
 /**
  * A Model rendered via a VBO.
+ * The OBJ geometry is compiled once into flat vertex arrays, with texture coordinates already remapped to the
+ * material's sprite, so that rendering is a single loop over the array.
  */
 public class ObjModel implements GCModel {
-    private final Obj obj;
-    private final List<UnbakedObjModel.BakedMaterial> materials;
+    /**
+     * The number of floats per vertex: position (3), texture coordinates (2) and normal (3).
+     */
+    private static final int STRIDE = 8;
 
-    public ObjModel(Obj obj, List<UnbakedObjModel.BakedMaterial> materials) {
-        this.obj = ObjUtils.convertToRenderable(obj);
-        this.materials = materials;
+    private final float[] vertices;
+    private final Map<String, float[]> groups;
+
+    private ObjModel(float[] vertices, Map<String, float[]> groups) {
+        this.vertices = vertices;
+        this.groups = groups;
     }
 
-    @Override
-    public void render(PoseStack modelStack, @Nullable GCModelState state, VertexConsumer consumer, int light, int overlay, int color) {
+    /**
+     * Compiles an OBJ model into vertex arrays for the whole model and for each of its groups.
+     *
+     * @param obj the model
+     * @param materials the materials the model can reference
+     * @param defaultSprite the sprite used by faces without a known material
+     * @return the compiled model
+     */
+    public static ObjModel compile(Obj obj, List<UnbakedObjModel.BakedMaterial> materials, Supplier<TextureAtlasSprite> defaultSprite) {
+        Obj renderable = ObjUtils.convertToRenderable(obj);
+        Map<String, UnbakedObjModel.BakedMaterial> byName = new HashMap<>();
+        for (UnbakedObjModel.BakedMaterial material : materials) {
+            byName.putIfAbsent(material.material().getName(), material);
+        }
+
+        Map<String, float[]> groups = new HashMap<>();
+        for (int i = 0; i < renderable.getNumGroups(); i++) {
+            ObjGroup group = renderable.getGroup(i);
+            groups.put(group.getName(), compileFaces(renderable, group::getFace, group.getNumFaces(), byName, defaultSprite));
+        }
+        return new ObjModel(compileFaces(renderable, renderable::getFace, renderable.getNumFaces(), byName, defaultSprite), groups);
+    }
+
+    private static float[] compileFaces(Obj obj, IntFunction<ObjFace> faces, int count, Map<String, UnbakedObjModel.BakedMaterial> materials, Supplier<TextureAtlasSprite> defaultSprite) {
+        FloatArrayList vertices = new FloatArrayList(count * 3 * STRIDE);
         UnbakedObjModel.BakedMaterial lastMaterial = null;
-        if (state == null) {
-            for (int index = 0; index < obj.getNumFaces(); index++) {
-                ObjFace face = obj.getFace(index);
-                lastMaterial = renderFace(lastMaterial, face, consumer, modelStack, light, overlay, color);
-            }
-        } else {
-            ObjGroup group = obj.getGroup(state.getName());
-            for (int index = 0; index < group.getNumFaces(); index++) {
-                ObjFace face = group.getFace(index);
-                lastMaterial = renderFace(lastMaterial, face, consumer, modelStack, light, overlay, color);
+        for (int index = 0; index < count; index++) {
+            ObjFace face = faces.apply(index);
+            UnbakedObjModel.BakedMaterial material = materials.getOrDefault(obj.getActivatedMaterialGroupName(face), lastMaterial);
+            TextureAtlasSprite sprite = material != null ? material.sprite() : defaultSprite.get();
+            for (int vtx = 0; vtx < face.getNumVertices(); vtx++) {
+                FloatTuple pos = obj.getVertex(face.getVertexIndex(vtx));
+                FloatTuple uv = obj.getTexCoord(face.getTexCoordIndex(vtx));
+                FloatTuple normal = obj.getNormal(face.getNormalIndex(vtx));
+                vertices.add(pos.getX());
+                vertices.add(pos.getY());
+                vertices.add(pos.getZ());
+                vertices.add(sprite.getU(uv.getX()));
+                vertices.add(sprite.getV(1 - uv.getY()));
+                vertices.add(normal.getX());
+                vertices.add(normal.getY());
+                vertices.add(normal.getZ());
             }
+            lastMaterial = material;
         }
+        return vertices.toFloatArray();
     }
 
-    protected UnbakedObjModel.BakedMaterial renderFace(UnbakedObjModel.BakedMaterial lastMaterial, ObjFace face, VertexConsumer consumer, PoseStack matrices, int light, int overlay, int color) {
-        UnbakedObjModel.BakedMaterial material = findMaterial(this.obj.getActivatedMaterialGroupName(face), lastMaterial, materials);
-        consumer = (material != null ? material.sprite() : GCModelLoader.INSTANCE.getDefaultSprite()).wrap(consumer);
-        PoseStack.Pose last = matrices.last();
-        for (int vtx = 0; vtx < face.getNumVertices(); vtx++) {
-            FloatTuple pos = obj.getVertex(face.getVertexIndex(vtx));
-            consumer.addVertex(last.pose(), pos.getX(), pos.getY(), pos.getZ());
-            consumer.setColor(color);
-            FloatTuple uv = obj.getTexCoord(face.getTexCoordIndex(vtx));
-            consumer.setUv(uv.getX(), 1 - uv.getY());
+    @Override
+    public void render(PoseStack modelStack, @Nullable GCModelState state, VertexConsumer consumer, int light, int overlay, int color) {
+        float[] vertices = state == null ? this.vertices : this.groups.get(state.getName());
+        if (vertices == null) return;
 
+        PoseStack.Pose last = modelStack.last();
+        Matrix4f pose = last.pose();
+        for (int i = 0; i < vertices.length; i += STRIDE) {
+            consumer.addVertex(pose, vertices[i], vertices[i + 1], vertices[i + 2]);
+            consumer.setColor(color);
+            consumer.setUv(vertices[i + 3], vertices[i + 4]);
             consumer.setOverlay(overlay);
             consumer.setLight(light);
-            FloatTuple normals = obj.getNormal(face.getNormalIndex(vtx));
-            consumer.setNormal(last, normals.getX(), normals.getY(), normals.getZ());
+            consumer.setNormal(last, vertices[i + 5], vertices[i + 6], vertices[i + 7]);
         }
-
-        return material;
     }
 
     public static UnbakedObjModel.BakedMaterial findMaterial(String name, UnbakedObjModel.BakedMaterial lastMaterial, List<UnbakedObjModel.BakedMaterial> materials) {
@@ -76,7 +76,7 @@ public GCModel bake(ResourceManager resourceManager, Function<Material, TextureA
                     bakedMaterials.add(new BakedMaterial(material, spriteGetter.apply(new Material(atlas.orElse(GCRenderTypes.OBJ_ATLAS), ResourceLocation.parse(material.getMapKdOptions().getFileName())))));
             }
 
-            return new ObjModel(obj, bakedMaterials);
+            return ObjModel.compile(obj, bakedMaterials, () -> spriteGetter.apply(new Material(GCRenderTypes.OBJ_ATLAS, GCModelLoader.WHITE_SPRITE)));
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2019-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.galacticraft.mod.client.render;
+
+import com.mojang.blaze3d.vertex.VertexConsumer;
+import dev.galacticraft.mod.misc.footprint.Footprint;
+import dev.galacticraft.mod.misc.footprint.FootprintChunk;
+import net.minecraft.core.SectionPos;
+import net.minecraft.util.Mth;
+import org.joml.Matrix4f;
+
+/**
+ * Generates footprint quads without touching any render state, so that all visible footprints can be drawn at once.
+ */
+public final class FootprintMesher {
+    public static final float SCALE = 0.5F;
+    public static final float Y_OFFSET = 0.001F;
+
+    private FootprintMesher() {}
+
+    @FunctionalInterface
+    public interface SectionFilter {
+        boolean isVisible(int sectionX, int sectionY, int sectionZ);
+    }
+
+    /**
+     * Writes the footprints of a chunk that lie in visible sections, relative to the camera.
+     *
+     * @return the number of footprints written
+     */
+    public static int writeChunk(VertexConsumer consumer, Matrix4f pose, FootprintChunk chunk, int chunkX, int chunkZ, double cameraX, double cameraY, double cameraZ, SectionFilter filter) {
+        float originX = (float) (SectionPos.sectionToBlockCoord(chunkX) - cameraX);
+        float originZ = (float) (SectionPos.sectionToBlockCoord(chunkZ) - cameraZ);
+        // footprints are usually made in runs at the same height, so remember the last section tested
+        int lastSection = Integer.MIN_VALUE;
+        boolean visible = false;
+        int written = 0;
+
+        for (int i = 0; i < chunk.size(); i++) {
+            float y = chunk.getY(i);
+            int section = SectionPos.blockToSectionCoord(y);
+            if (section != lastSection) {
+                lastSection = section;
+                visible = filter.isVisible(chunkX, section, chunkZ);
+            }
+            if (visible) {
+                writeFootprint(consumer, pose, originX + chunk.getX(i), (float) (y - cameraY) + Y_OFFSET, originZ + chunk.getZ(i), chunk.getRotation(i), chunk.getAge(i));
+                written++;
+            }
+        }
+        return written;
+    }
+
+    /**
+     * Writes a single footprint quad, faded by its age.
+     */
+    public static void writeFootprint(VertexConsumer consumer, Matrix4f pose, float x, float y, float z, float rotation, short age) {
+        float fade = 1.0F - age / (float) Footprint.MAX_AGE;
+        float angle = (45 - rotation) * Mth.DEG_TO_RAD;
+        float sin = Mth.sin(angle) * SCALE;
+        float cos = Mth.cos(angle) * SCALE;
+
+        // the corners are at 45, 135, 225 and 315 degrees
+        consumer.addVertex(pose, x + sin, y, z + cos).setUv(1.0F, 1.0F).setColor(fade, fade, fade, fade);
+        consumer.addVertex(pose, x + cos, y, z - sin).setUv(1.0F, 0.0F).setColor(fade, fade, fade, fade);
+        consumer.addVertex(pose, x - sin, y, z - cos).setUv(0.0F, 0.0F).setColor(fade, fade, fade, fade);
+        consumer.addVertex(pose, x - cos, y, z + sin).setUv(0.0F, 1.0F).setColor(fade, fade, fade, fade);
+    }
+}
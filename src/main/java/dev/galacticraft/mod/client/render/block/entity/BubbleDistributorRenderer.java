@@ -53,7 +53,7 @@ public void render(OxygenBubbleDistributorBlockEntity machine, float tickDelta,
         if (machine.isDisabled() || !machine.isBubbleVisible()) {
             return;
         }
-        double size = machine.getSize();
+        double size = machine.getRenderSize(machine.getLevel().getGameTime(), tickDelta);
 
         matrices.pushPose();
         matrices.translate(0.5F, 1.0F, 0.5F);
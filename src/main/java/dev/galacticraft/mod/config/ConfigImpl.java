@@ -32,6 +32,7 @@
 import me.shedaniel.clothconfig2.api.ConfigEntryBuilder;
 import me.shedaniel.clothconfig2.impl.builders.BooleanToggleBuilder;
 import me.shedaniel.clothconfig2.impl.builders.DoubleFieldBuilder;
+import me.shedaniel.clothconfig2.impl.builders.IntFieldBuilder;
 import me.shedaniel.clothconfig2.impl.builders.LongFieldBuilder;
 import me.shedaniel.clothconfig2.impl.builders.SubCategoryBuilder;
 import net.fabricmc.fabric.api.transfer.v1.fluid.FluidConstants;
@@ -66,6 +67,8 @@ public class ConfigImpl implements Config {
     private double bossHealthMultiplier = 1.0;
     private boolean hideAlphaWarning = false;
     private boolean enableGcHouston = true;
+    private int oxygenSyncInterval = 1;
+    private int satelliteUnloadDelay = 300;
 
     public ConfigImpl(File file) {
         this.gson = new GsonBuilder()
@@ -249,6 +252,24 @@ public void setEnableGcHouston(boolean enableGcHouston) {
         this.enableGcHouston = enableGcHouston;
     }
 
+    @Override
+    public int oxygenSyncInterval() {
+        return this.oxygenSyncInterval;
+    }
+
+    public void setOxygenSyncInterval(int oxygenSyncInterval) {
+        this.oxygenSyncInterval = oxygenSyncInterval;
+    }
+
+    @Override
+    public int satelliteUnloadDelay() {
+        return this.satelliteUnloadDelay;
+    }
+
+    public void setSatelliteUnloadDelay(int satelliteUnloadDelay) {
+        this.satelliteUnloadDelay = satelliteUnloadDelay;
+    }
+
     public void load() {
         if (!this.file.exists()) {
             this.file.getParentFile().mkdirs();
@@ -473,6 +494,36 @@ public Screen create(Screen parent) {
                     .build()
             );
 
+            SubCategoryBuilder oxygen = ConfigEntryBuilder.create().startSubCategory(Component.translatable(Translations.Config.OXYGEN));
+
+            oxygen.add(new IntFieldBuilder(
+                    Component.translatable(Translations.Config.RESET),
+                    Component.translatable(Translations.Config.OXYGEN_SYNC_INTERVAL),
+                    config.oxygenSyncInterval())
+                    .setTooltip(Component.translatable(Translations.Config.OXYGEN_SYNC_INTERVAL_DESC))
+                    .setSaveConsumer(config::setOxygenSyncInterval)
+                    .setDefaultValue(1)
+                    .setMin(1)
+                    .setMax(200)
+                    .build()
+            );
+
+            SubCategoryBuilder satellites = ConfigEntryBuilder.create().startSubCategory(Component.translatable(Translations.Config.SATELLITES));
+
+            satellites.add(new IntFieldBuilder(
+                    Component.translatable(Translations.Config.RESET),
+                    Component.translatable(Translations.Config.SATELLITE_UNLOAD_DELAY),
+                    config.satelliteUnloadDelay())
+                    .setTooltip(Component.translatable(Translations.Config.SATELLITE_UNLOAD_DELAY_DESC))
+                    .setSaveConsumer(config::setSatelliteUnloadDelay)
+                    .setDefaultValue(300)
+                    .setMin(0)
+                    .setMax(86400)
+                    .build()
+            );
+
+            b.getOrCreateCategory(Component.translatable(Translations.Config.PERFORMANCE)).addEntry(oxygen.build()).addEntry(satellites.build());
+
             return b.build();
         }
     }
@@ -38,19 +38,18 @@
 import dev.galacticraft.machinelib.api.transfer.TransferType;
 import dev.galacticraft.mod.Constant;
 import dev.galacticraft.mod.Galacticraft;
+import dev.galacticraft.mod.accessor.ServerLevelAccessor;
 import dev.galacticraft.mod.content.GCBlockEntityTypes;
 import dev.galacticraft.mod.machine.GCMachineStatuses;
-import dev.galacticraft.mod.network.s2c.BubbleSizePayload;
 import dev.galacticraft.mod.network.s2c.BubbleUpdatePayload;
 import dev.galacticraft.mod.screen.OxygenBubbleDistributorMenu;
 import dev.galacticraft.mod.util.FluidUtil;
-import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
 import net.minecraft.server.level.ServerLevel;
-import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.util.Mth;
 import net.minecraft.util.profiling.ProfilerFiller;
 import net.minecraft.world.entity.player.Inventory;
@@ -66,6 +65,11 @@ public class OxygenBubbleDistributorBlockEntity extends MachineBlockEntity {
     public static final int OXYGEN_INPUT_SLOT = 1; // REVIEW: should this be 0 or 1?
     public static final int OXYGEN_TANK = 0;
     public static final long MAX_OXYGEN = FluidUtil.bucketsToDroplets(50);
+    /**
+     * How often (in ticks) changed bubble sizes are sent to the players tracking them.
+     * The client interpolates between two updates.
+     */
+    public static final int SIZE_SYNC_INTERVAL = 5;
 
     private static final StorageSpec SPEC = StorageSpec.of(
             MachineItemStorage.spec(
@@ -96,8 +100,14 @@ public class OxygenBubbleDistributorBlockEntity extends MachineBlockEntity {
     private boolean bubbleVisible = true;
     private double size = 0;
     private byte targetSize = 1;
-    private int players = 0;
     private double prevSize;
+    // client-side interpolation between the last two received sizes
+    private double syncedFromSize;
+    private long syncTime = Long.MIN_VALUE;
+    /**
+     * The squared radius of the sphere currently made breathable by this distributor, or {@code -1} if there is none.
+     */
+    private int oxygenatedRadiusSquared = -1;
     private boolean oxygenUnloaded = true;
 
     public OxygenBubbleDistributorBlockEntity(BlockPos pos, BlockState state) {
@@ -118,7 +128,6 @@ protected void tickConstant(@NotNull ServerLevel world, @NotNull BlockPos pos, @
     protected @NotNull MachineStatus tick(@NotNull ServerLevel level, @NotNull BlockPos pos, @NotNull BlockState state, @NotNull ProfilerFiller profiler) {
         profiler.push("transaction");
         MachineStatus status;
-        distributeOxygenToArea(this.prevSize, false);
         try {
             if (this.energyStorage().canExtract(Galacticraft.CONFIG.oxygenCollectorEnergyConsumptionRate())) { //todo: config
                 profiler.push("bubble");
@@ -141,7 +150,7 @@ protected void tickConstant(@NotNull ServerLevel world, @NotNull BlockPos pos, @
                         setSize(this.size + 0.05D);
                     }
                     profiler.pop();
-                    distributeOxygenToArea(this.size, true);
+                    this.distributeOxygenToArea(this.size);
                     return GCMachineStatuses.DISTRIBUTING;
                 } else {
                     status = GCMachineStatuses.NOT_ENOUGH_OXYGEN;
@@ -158,12 +167,12 @@ protected void tickConstant(@NotNull ServerLevel world, @NotNull BlockPos pos, @
         if (this.size > 0) {
             setSize(this.size - 0.2D);
             trySyncSize(level, pos, profiler);
-            distributeOxygenToArea(this.size, true); // technically this oxygen is being created from thin air
         }
 
         if (this.size < 0) {
             setSize(0);
         }
+        this.distributeOxygenToArea(this.size); // technically this oxygen is being created from thin air
         profiler.pop();
         return status;
     }
@@ -172,14 +181,14 @@ protected void tickConstant(@NotNull ServerLevel world, @NotNull BlockPos pos, @
     public void setRemoved() {
         if (!this.oxygenUnloaded) {
             this.oxygenUnloaded = true;
-            distributeOxygenToArea(this.size, false);
+            this.setOxygenatedRadius(-1);
         }
         super.setRemoved();
     }
 
     @Override
     protected void tickDisabled(@NotNull ServerLevel level, @NotNull BlockPos pos, @NotNull BlockState state, @NotNull ProfilerFiller profiler) {
-        this.distributeOxygenToArea(this.prevSize, false); // REVIEW: Inefficient?
+        this.setOxygenatedRadius(-1);
         this.size = 0; // I believe this is needed to allow multiple bubbles in a level?
         this.trySyncSize(level, pos, profiler);
 
@@ -187,39 +196,58 @@ protected void tickDisabled(@NotNull ServerLevel level, @NotNull BlockPos pos, @
     }
 
     private void trySyncSize(@NotNull ServerLevel world, @NotNull BlockPos pos, @NotNull ProfilerFiller profiler) {
-        // Could maybe get away with running this 1 in 10 ticks to reduce network traffic
-        if (this.prevSize != this.size || this.players != world.players().size()) {
-            this.players = world.players().size();
+        // players that start tracking the chunk receive the size with the block entity's update tag
+        if (this.prevSize != this.size) {
+            if (this.size < 0) this.size = 0;
             this.prevSize = this.size;
             profiler.push("network");
-            for (ServerPlayer player : world.players()) {
-                if (this.size < 0) this.size = 0;
-                ServerPlayNetworking.send(player, new BubbleSizePayload(pos, this.size));
-            }
+            ((ServerLevelAccessor) world).queueBubbleSize(pos, (float) this.size);
             profiler.pop();
         }
     }
 
-    public int getDistanceFromServer(int par1, int par3, int par5) {
-        final int d3 = this.getBlockPos().getX() - par1;
-        final int d4 = this.getBlockPos().getY() - par3;
-        final int d5 = this.getBlockPos().getZ() - par5;
-        return d3 * d3 + d4 * d4 + d5 * d5;
+    private void distributeOxygenToArea(double size) {
+        this.setOxygenatedRadius(size > 0 ? (int) (size * size) : -1);
     }
 
-    public void distributeOxygenToArea(double size, boolean oxygenated) {
-        int radius = Mth.floor(size) + 4;
-        int bubbleR2 = (int) (size * size);
-        BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
-        for (int x = this.getBlockPos().getX() - radius; x <= this.getBlockPos().getX() + radius; x++) {
-            for (int y = this.getBlockPos().getY() - radius; y <= this.getBlockPos().getY() + radius; y++) {
-                for (int z = this.getBlockPos().getZ() - radius; z <= this.getBlockPos().getZ() + radius; z++) {
-                    if (getDistanceFromServer(x, y, z) <= bubbleR2) {
-                        getLevel().setBreathable(pos.set(x, y, z), oxygenated);
+    /**
+     * Changes the oxygenated sphere around the distributor to the given squared radius.
+     * Only the shell between the previous and the new radius is acquired or released, so that positions also
+     * provided by an overlapping bubble or sealed area stay breathable.
+     *
+     * @param radiusSquared the new squared radius, or {@code -1} to remove the bubble's oxygen
+     */
+    private void setOxygenatedRadius(int radiusSquared) {
+        int previous = this.oxygenatedRadiusSquared;
+        if (radiusSquared == previous) return;
+        this.oxygenatedRadiusSquared = radiusSquared;
+
+        int outer = Math.max(radiusSquared, previous);
+        int inner = Math.min(radiusSquared, previous);
+        int radius = (int) Math.sqrt(outer);
+        BlockPos center = this.getBlockPos();
+        LongArrayList shell = new LongArrayList();
+
+        for (int dx = -radius; dx <= radius; dx++) {
+            for (int dz = -radius; dz <= radius; dz++) {
+                int horizontal = dx * dx + dz * dz;
+                if (horizontal > outer) continue;
+                // every position with inner < horizontal + dy^2 <= outer
+                int maxDy = (int) Math.sqrt(outer - horizontal);
+                int minDy = inner >= horizontal ? (int) Math.sqrt(inner - horizontal) + 1 : 0;
+                for (int dy = minDy; dy <= maxDy; dy++) {
+                    shell.add(BlockPos.asLong(center.getX() + dx, center.getY() + dy, center.getZ() + dz));
+                    if (dy != 0) {
+                        shell.add(BlockPos.asLong(center.getX() + dx, center.getY() - dy, center.getZ() + dz));
                     }
                 }
             }
         }
+        if (radiusSquared > previous) {
+            ((ServerLevelAccessor) this.level).acquireOxygen(shell);
+        } else {
+            ((ServerLevelAccessor) this.level).releaseOxygen(shell);
+        }
     }
 
     public byte getTargetSize() {
@@ -256,6 +284,25 @@ public void setSize(double size) {
         this.size = size;
     }
 
+    /**
+     * Called on the client when a new bubble size is received. The rendered size moves towards it over the
+     * next {@link #SIZE_SYNC_INTERVAL} ticks.
+     *
+     * @param size the new size of the bubble
+     * @param time the current game time
+     */
+    public void receiveSize(double size, long time) {
+        this.syncedFromSize = this.getRenderSize(time, 0.0F);
+        this.syncTime = time;
+        this.size = size;
+    }
+
+    public double getRenderSize(long time, float tickDelta) {
+        float delta = (time - this.syncTime + tickDelta) / SIZE_SYNC_INTERVAL;
+        if (delta >= 1.0F || delta < 0.0F) return this.size;
+        return Mth.lerp(delta, this.syncedFromSize, this.size);
+    }
+
     public boolean isBubbleVisible() {
         return size < 0.0D || this.bubbleVisible;
     }
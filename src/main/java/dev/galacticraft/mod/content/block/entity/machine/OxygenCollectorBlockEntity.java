@@ -23,8 +23,8 @@
 package dev.galacticraft.mod.content.block.entity.machine;
 
 import com.mojang.datafixers.util.Pair;
+import dev.galacticraft.api.block.OxygenProvidingBlock;
 import dev.galacticraft.api.gas.Gases;
-import dev.galacticraft.api.universe.celestialbody.CelestialBody;
 import dev.galacticraft.machinelib.api.block.entity.MachineBlockEntity;
 import dev.galacticraft.machinelib.api.filter.ResourceFilters;
 import dev.galacticraft.machinelib.api.machine.MachineStatus;
@@ -40,13 +40,18 @@
 import dev.galacticraft.machinelib.api.util.FluidSource;
 import dev.galacticraft.mod.Constant;
 import dev.galacticraft.mod.Galacticraft;
+import dev.galacticraft.mod.accessor.ServerLevelAccessor;
 import dev.galacticraft.mod.content.GCBlockEntityTypes;
 import dev.galacticraft.mod.data.OxygenBlockDataManager;
 import dev.galacticraft.mod.machine.GCMachineStatuses;
 import dev.galacticraft.mod.screen.OxygenCollectorMenu;
 import dev.galacticraft.mod.util.FluidUtil;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.longs.LongSets;
 import net.minecraft.core.BlockPos;
-import net.minecraft.core.Holder;
+import net.minecraft.core.SectionPos;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.util.profiling.ProfilerFiller;
 import net.minecraft.world.entity.player.Inventory;
@@ -62,6 +67,12 @@ public class OxygenCollectorBlockEntity extends MachineBlockEntity {
     public static final int OXYGEN_TANK = 0;
 
     public static final long MAX_OXYGEN = FluidUtil.bucketsToDroplets(50);
+    public static final int COLLECTION_RADIUS = 5;
+    private static final int COLLECTION_DIAMETER = COLLECTION_RADIUS * 2 + 1;
+    /**
+     * Block changes that do not notify clients are not reported to the collector, so the census is retaken every so often.
+     */
+    private static final int CENSUS_REFRESH_INTERVAL = 1200;
 
     private static final StorageSpec SPEC = StorageSpec.of(
             MachineItemStorage.spec(
@@ -85,6 +96,16 @@ public class OxygenCollectorBlockEntity extends MachineBlockEntity {
     );
 
     private final FluidSource fluidSource = new FluidSource(this);
+    /**
+     * The oxygen produced by each block in range, indexed by {@code x + (y + z * 11) * 11} relative to the corner of the range.
+     */
+    private final float[] oxygenSources = new float[COLLECTION_DIAMETER * COLLECTION_DIAMETER * COLLECTION_DIAMETER];
+    private final LongArrayList dynamicSources = new LongArrayList();
+    private double staticOxygen = 0;
+    private boolean censusValid = false;
+    private int censusGeneration;
+    private long censusTime;
+    private boolean listening = false;
     public int collectionAmount = 0;
     private boolean oxygenWorld = false;
 
@@ -95,28 +116,22 @@ public OxygenCollectorBlockEntity(BlockPos pos, BlockState state) {
     @Override
     public void setLevel(Level world) {
         super.setLevel(world);
-        Holder<CelestialBody<?, ?>> body = world.galacticraft$getCelestialBody();
-        this.oxygenWorld = body == null || body.value().atmosphere().breathable();
+        this.oxygenWorld = world.galacticraft$getEnvironment().breathable();
     }
 
     private int collectOxygen(@NotNull ServerLevel world, @NotNull BlockPos pos) {
         if (!this.oxygenWorld) {
-            int minX = pos.getX() - 5;
-            int minY = pos.getY() - 5;
-            int minZ = pos.getZ() - 5;
-            int maxX = pos.getX() + 5;
-            int maxY = pos.getY() + 5;
-            int maxZ = pos.getZ() + 5;
-
-            float leafBlocks = 0;
-
-            for (BlockPos pos1 : BlockPos.betweenClosed(minX, minY, minZ, maxX, maxY, maxZ)) {
-                BlockState state = world.getBlockState(pos1);
-                if (state.isAir()) {
-                    continue;
-                }
+            if (!this.censusValid
+                    || this.censusGeneration != OxygenBlockDataManager.getGeneration()
+                    || world.getGameTime() - this.censusTime >= CENSUS_REFRESH_INTERVAL) {
+                this.takeCensus(world, pos);
+            }
 
-                leafBlocks += OxygenBlockDataManager.getOxygen(world, pos1, state);
+            double leafBlocks = this.staticOxygen;
+            BlockPos.MutableBlockPos mutable = new BlockPos.MutableBlockPos();
+            for (int i = 0; i < this.dynamicSources.size(); i++) {
+                mutable.set(this.dynamicSources.getLong(i));
+                leafBlocks += OxygenBlockDataManager.getOxygen(world, mutable, world.getBlockState(mutable));
             }
 
             if (leafBlocks < 2) return 0;
@@ -127,6 +142,84 @@ private int collectOxygen(@NotNull ServerLevel world, @NotNull BlockPos pos) {
         return 183 / 20;
     }
 
+    /**
+     * Counts the oxygen produced by the blocks around the collector.
+     * Blocks whose output depends on their surroundings ({@link OxygenProvidingBlock}) are queried every tick instead.
+     */
+    private void takeCensus(@NotNull ServerLevel world, @NotNull BlockPos pos) {
+        this.staticOxygen = 0;
+        this.dynamicSources.clear();
+        BlockPos.MutableBlockPos mutable = new BlockPos.MutableBlockPos();
+        int i = 0;
+        for (int z = -COLLECTION_RADIUS; z <= COLLECTION_RADIUS; z++) {
+            for (int y = -COLLECTION_RADIUS; y <= COLLECTION_RADIUS; y++) {
+                for (int x = -COLLECTION_RADIUS; x <= COLLECTION_RADIUS; x++) {
+                    mutable.setWithOffset(pos, x, y, z);
+                    BlockState state = world.getBlockState(mutable);
+                    float oxygen = 0;
+                    if (state.getBlock() instanceof OxygenProvidingBlock) {
+                        this.dynamicSources.add(mutable.asLong());
+                    } else if (!state.isAir()) {
+                        oxygen = OxygenBlockDataManager.getOxygen(state);
+                    }
+                    this.oxygenSources[i++] = oxygen;
+                    this.staticOxygen += oxygen;
+                }
+            }
+        }
+        this.censusValid = true;
+        this.censusGeneration = OxygenBlockDataManager.getGeneration();
+        this.censusTime = world.getGameTime();
+
+        if (!this.listening) {
+            this.listening = true;
+            LongSet sections = new LongOpenHashSet();
+            for (int x = SectionPos.blockToSectionCoord(pos.getX() - COLLECTION_RADIUS); x <= SectionPos.blockToSectionCoord(pos.getX() + COLLECTION_RADIUS); x++) {
+                for (int y = SectionPos.blockToSectionCoord(pos.getY() - COLLECTION_RADIUS); y <= SectionPos.blockToSectionCoord(pos.getY() + COLLECTION_RADIUS); y++) {
+                    for (int z = SectionPos.blockToSectionCoord(pos.getZ() - COLLECTION_RADIUS); z <= SectionPos.blockToSectionCoord(pos.getZ() + COLLECTION_RADIUS); z++) {
+                        sections.add(SectionPos.asLong(x, y, z));
+                    }
+                }
+            }
+            ((ServerLevelAccessor) world).setCollectorSections(this, sections);
+        }
+    }
+
+    /**
+     * Updates the oxygen census after a block in a section near the collector changed.
+     *
+     * @param pos the position of the block that changed
+     * @param oldState the previous block state
+     * @param newState the new block state
+     */
+    public void onBlockChanged(@NotNull BlockPos pos, @NotNull BlockState oldState, @NotNull BlockState newState) {
+        if (!this.censusValid) return;
+        int x = pos.getX() - this.getBlockPos().getX() + COLLECTION_RADIUS;
+        int y = pos.getY() - this.getBlockPos().getY() + COLLECTION_RADIUS;
+        int z = pos.getZ() - this.getBlockPos().getZ() + COLLECTION_RADIUS;
+        if (x < 0 || y < 0 || z < 0 || x >= COLLECTION_DIAMETER || y >= COLLECTION_DIAMETER || z >= COLLECTION_DIAMETER) return;
+
+        if (oldState.getBlock() instanceof OxygenProvidingBlock || newState.getBlock() instanceof OxygenProvidingBlock) {
+            this.censusValid = false;
+            return;
+        }
+
+        int index = x + (y + z * COLLECTION_DIAMETER) * COLLECTION_DIAMETER;
+        float oxygen = newState.isAir() ? 0 : OxygenBlockDataManager.getOxygen(newState);
+        this.staticOxygen += oxygen - this.oxygenSources[index];
+        this.oxygenSources[index] = oxygen;
+    }
+
+    @Override
+    public void setRemoved() {
+        if (this.listening) {
+            this.listening = false;
+            ((ServerLevelAccessor) this.level).setCollectorSections(this, LongSets.EMPTY_SET);
+        }
+        this.censusValid = false;
+        super.setRemoved();
+    }
+
     @Override
     protected void tickConstant(@NotNull ServerLevel world, @NotNull BlockPos pos, @NotNull BlockState state, @NotNull ProfilerFiller profiler) {
         super.tickConstant(world, pos, state, profiler);
@@ -24,7 +24,6 @@
 
 import com.mojang.datafixers.util.Pair;
 import dev.galacticraft.api.gas.Gases;
-import dev.galacticraft.api.universe.celestialbody.CelestialBody;
 import dev.galacticraft.machinelib.api.block.entity.MachineBlockEntity;
 import dev.galacticraft.machinelib.api.filter.ResourceFilters;
 import dev.galacticraft.machinelib.api.machine.MachineStatus;
@@ -42,29 +41,25 @@
 import dev.galacticraft.mod.accessor.ServerLevelAccessor;
 import dev.galacticraft.mod.content.GCBlockEntityTypes;
 import dev.galacticraft.mod.machine.GCMachineStatuses;
+import dev.galacticraft.mod.machine.SealDetector;
 import dev.galacticraft.mod.screen.GCMenuTypes;
 import dev.galacticraft.mod.util.FluidUtil;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.longs.LongSets;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
-import net.minecraft.core.Holder;
 import net.minecraft.server.level.ServerLevel;
-import net.minecraft.util.Tuple;
 import net.minecraft.util.profiling.ProfilerFiller;
 import net.minecraft.world.entity.player.Inventory;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.inventory.InventoryMenu;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.phys.shapes.VoxelShape;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.HashSet;
-import java.util.LinkedList;
-import java.util.Queue;
-import java.util.Set;
-
 public class OxygenSealerBlockEntity extends MachineBlockEntity {
     public static final int CHARGE_SLOT = 0;
     public static final int OXYGEN_INPUT_SLOT = 1;
@@ -72,6 +67,11 @@ public class OxygenSealerBlockEntity extends MachineBlockEntity {
 
     public static final long MAX_OXYGEN = FluidUtil.bucketsToDroplets(50);
     public static final int SEAL_CHECK_TIME = 20;
+    public static final int MAX_SEALED_VOLUME = 1024;
+    /**
+     * The maximum number of positions a seal check visits per tick. Larger volumes are checked over several ticks.
+     */
+    public static final int SEAL_CHECK_BUDGET = 1024;
 
     private static final StorageSpec SPEC = StorageSpec.of(
             MachineItemStorage.spec(
@@ -99,11 +99,9 @@ public class OxygenSealerBlockEntity extends MachineBlockEntity {
             )
     );
 
-    private final Set<BlockPos> breathablePositions = new HashSet<>();
-    private final Set<BlockPos> watching = new HashSet<>();
+    private final SealDetector seal = new SealDetector(MAX_SEALED_VOLUME);
     private int sealCheckTime;
     private boolean updateQueued = true;
-    private boolean disabled = false;
     private boolean oxygenWorld = false;
     private boolean sealed = false;
     private boolean oxygenUnloaded = true;
@@ -116,9 +114,7 @@ public OxygenSealerBlockEntity(BlockPos pos, BlockState state) {
     public void setLevel(Level world) {
         super.setLevel(world);
         this.sealCheckTime = SEAL_CHECK_TIME;
-        Holder<CelestialBody<?, ?>> holder = world.galacticraft$getCelestialBody();
-        this.oxygenWorld = holder == null || holder.value().atmosphere().breathable();
-        if (!world.isClientSide) ((ServerLevelAccessor) world).addSealer(this);
+        this.oxygenWorld = world.galacticraft$getEnvironment().breathable();
     }
 
     @Override
@@ -134,79 +130,47 @@ protected void tickConstant(@NotNull ServerLevel world, @NotNull BlockPos pos, @
     @Override
     protected @NotNull MachineStatus tick(@NotNull ServerLevel level, @NotNull BlockPos pos, @NotNull BlockState state, @NotNull ProfilerFiller profiler) {
         assert level != null;
-        // if (this.disabled != (this.disabled = false)) {
-        //     ((ServerLevelAccessor) level).addSealer(this);
-        // }
-
         if (this.energyStorage().canExtract(Galacticraft.CONFIG.oxygenCompressorEnergyConsumptionRate())) {
             if (!this.fluidStorage().slot(OXYGEN_TANK).isEmpty()) {
                 if (this.sealCheckTime > 0) this.sealCheckTime--;
-                if (this.updateQueued && this.sealCheckTime == 0) {
-                    profiler.push("check_seal");
-                    this.updateQueued = false;
+                if (!this.seal.isSearching() && this.sealCheckTime == 0 && (this.updateQueued || this.seal.hasPendingChanges())) {
                     this.sealCheckTime = SEAL_CHECK_TIME;
                     BlockPos pos1 = pos.relative(Direction.UP);
-                    if (this.oxygenWorld || (this.breathablePositions.isEmpty() && level.isBreathable(pos1))) {
-                        profiler.pop();
+                    if (this.oxygenWorld || (this.seal.isEmpty() && level.isBreathable(pos1))) {
+                        this.updateQueued = false;
                         return GCMachineStatuses.ALREADY_SEALED;
                     }
-                    for (BlockPos pos2 : this.breathablePositions) {
-                        level.setBreathable(pos2, false);
-                    }
-                    this.breathablePositions.clear();
-                    this.watching.clear();
-                    Queue<Tuple<BlockPos, Direction>> queue = new LinkedList<>();
-                    Set<Tuple<BlockPos, Direction>> checked = new HashSet<>();
-                    Set<BlockPos> added = new HashSet<>();
-                    BlockState state1;
-                    Tuple<BlockPos, Direction> pair;
-                    BlockPos.MutableBlockPos mutable = new BlockPos.MutableBlockPos();
-                    queue.add(new Tuple<>(pos1, Direction.UP));
-                    checked.add(new Tuple<>(pos1, Direction.UP));
-                    while (!queue.isEmpty()) {
-                        pair = queue.poll();
-                        pos1 = pair.getA();
-                        state1 = level.getBlockState(pos1);
-                        if (state1.isAir() || (!Block.isFaceFull(state1.getCollisionShape(level, pos1), pair.getB().getOpposite()))) {
-                            this.breathablePositions.add(pos1);
-                            if (this.breathablePositions.size() > 1024) {
-                                this.breathablePositions.clear();
-                                this.watching.clear();
-                                this.updateQueued = true;
-                                this.sealCheckTime = SEAL_CHECK_TIME * 5;
-                                this.sealed = false;
-                                profiler.pop();
-                                return GCMachineStatuses.AREA_TOO_LARGE;
-                            }
-                            added.add(pos1);
-                            final BlockPos finalPos = pos1;
-                            queue.removeIf(blockPosDirectionPair -> blockPosDirectionPair.getA().equals(finalPos));
-                            for (Direction direction : Constant.Misc.DIRECTIONS) {
-                                final Tuple<BlockPos, Direction> e = new Tuple<>(mutable.set(pos1).move(direction).immutable(), direction);
-                                if (!added.contains(e.getA()) && checked.add(e)) {
-                                    if (!Block.isFaceFull(state1.getCollisionShape(level, pos1), e.getB())) {
-                                        queue.add(e);
-                                    }
-                                }
-                            }
-                        } else {
-                            this.watching.add(pos1);
-                        }
-                    }
-                    this.sealed = true; // if escaped queue then set sealed
-                    for (BlockPos pos2 : this.breathablePositions) {
-                        level.setBreathable(pos2, true);
+                    if (!this.updateQueued && this.sealed && this.seal.canExtend()) {
+                        this.seal.extend(level);
+                    } else {
+                        this.updateQueued = false;
+                        this.seal.start(pos1);
                     }
+                }
+
+                if (this.seal.isSearching()) {
+                    profiler.push("check_seal");
+                    SealDetector.Result result = this.seal.step(level, SEAL_CHECK_BUDGET);
+                    this.updateListenedSections(level);
                     profiler.pop();
+                    if (result == SealDetector.Result.SEALED) {
+                        this.sealed = true;
+                    } else if (result == SealDetector.Result.TOO_LARGE) {
+                        this.updateQueued = true;
+                        this.sealCheckTime = SEAL_CHECK_TIME * 5;
+                        this.sealed = false;
+                        return GCMachineStatuses.AREA_TOO_LARGE;
+                    }
                 }
 
                 if (!this.sealed) {
-                    return GCMachineStatuses.AREA_TOO_LARGE;
+                    // the first search may take several ticks, which does not mean the area is too large yet
+                    return this.seal.isSearching() ? GCMachineStatuses.CHECKING_SEAL : GCMachineStatuses.AREA_TOO_LARGE;
                 }
 
                 profiler.push("extract");
                 this.energyStorage().extract(Galacticraft.CONFIG.oxygenCompressorEnergyConsumptionRate());
-                this.fluidStorage().slot(OXYGEN_TANK).extract(Gases.OXYGEN, breathablePositions.size() * 2L);
+                this.fluidStorage().slot(OXYGEN_TANK).extract(Gases.OXYGEN, this.seal.size() * 2L);
                 profiler.pop();
                 return GCMachineStatuses.SEALED;
             } else {
@@ -219,16 +183,18 @@ protected void tickConstant(@NotNull ServerLevel world, @NotNull BlockPos pos, @
         }
     }
 
-    private void tryClearSeal(@NotNull ServerLevel world) {
-        if (this.sealed) {
-            for (BlockPos pos1 : this.breathablePositions) {
-                world.setBreathable(pos1, false);
-            }
-            this.breathablePositions.clear();
-            this.watching.clear();
+    private void updateListenedSections(@NotNull ServerLevel level) {
+        LongSet sections = new LongOpenHashSet();
+        this.seal.collectSections(sections);
+        ((ServerLevelAccessor) level).setSealerSections(this, sections);
+    }
 
-            this.sealed = false;
+    private void tryClearSeal(@NotNull ServerLevel world) {
+        if (!this.seal.isEmpty() || this.seal.isSearching()) {
+            this.seal.clear(world);
+            ((ServerLevelAccessor) world).setSealerSections(this, LongSets.EMPTY_SET);
         }
+        this.sealed = false;
         this.updateQueued = true;
         this.sealCheckTime = 0;
     }
@@ -242,16 +208,14 @@ protected void tickDisabled(@NotNull ServerLevel world, @NotNull BlockPos pos, @
     @Override
     public void setRemoved() {
         if (!this.level.isClientSide) {
-            ((ServerLevelAccessor) this.level).removeSealer(this);
+            ((ServerLevelAccessor) this.level).setSealerSections(this, LongSets.EMPTY_SET);
         }
         if (!this.oxygenUnloaded) {
             this.oxygenUnloaded = true;
-            for (BlockPos pos : this.breathablePositions) {
-                this.level.setBreathable(pos, false);
-            }
+            this.seal.clear((ServerLevel) this.level);
+        } else {
+            this.seal.reset();
         }
-        this.breathablePositions.clear();
-        this.watching.clear();
 
         super.setRemoved();
     }
@@ -268,8 +232,6 @@ public MachineMenu<? extends MachineBlockEntity> createMenu(int syncId, Inventor
     }
 
     public void enqueueUpdate(BlockPos pos, VoxelShape voxelShape2) {
-        if ((this.watching.contains(pos) && !Block.isShapeFullBlock(voxelShape2)) || (this.breathablePositions.contains(pos) && !voxelShape2.isEmpty())) {
-            this.updateQueued = true;
-        }
+        this.seal.markChanged(pos.asLong(), voxelShape2);
     }
 }
\ No newline at end of file
@@ -69,18 +69,18 @@ public void forceCreateNetwork() {
     public void createNetwork() {
         assert this.network == null || this.network.markedForRemoval();
         if (!this.level.isClientSide) {
-            this.network = new WireNetworkImpl((ServerLevel) this.level, this.maxTransferRate, this.getBlockPos());
+            WireNetworkImpl.create((ServerLevel) this.level, this.maxTransferRate, this);
         }
     }
 
     @Override
     public void setNetwork(@Nullable WireNetwork network) {
-        if ((this.network == null || this.network.markedForRemoval()) && (network != null && !network.markedForRemoval())) {
-            this.network = network;
-            this.level.updateNeighborsAt(this.getBlockPos(), this.getBlockState().getBlock());
-        } else {
-            this.network = network;
-        }
+        this.network = network;
+    }
+
+    @Override
+    public void onNetworkJoined() {
+        this.level.updateNeighborsAt(this.getBlockPos(), this.getBlockState().getBlock());
     }
 
     @Override
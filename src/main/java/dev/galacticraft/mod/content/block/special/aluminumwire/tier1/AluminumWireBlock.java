@@ -26,6 +26,7 @@
 import dev.galacticraft.mod.api.block.WireBlock;
 import dev.galacticraft.mod.content.GCBlockEntityTypes;
 import dev.galacticraft.mod.content.block.entity.networked.WireBlockEntity;
+import dev.galacticraft.mod.util.ConnectionShapeCache;
 import dev.galacticraft.mod.util.DirectionUtil;
 import net.minecraft.core.BlockPos;
 import net.minecraft.world.level.BlockGetter;
@@ -33,14 +34,10 @@
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.phys.shapes.CollisionContext;
-import net.minecraft.world.phys.shapes.Shapes;
 import net.minecraft.world.phys.shapes.VoxelShape;
 import org.jetbrains.annotations.Nullable;
 import team.reborn.energy.api.EnergyStorage;
 
-import java.util.ArrayList;
-import java.util.List;
-
 public class AluminumWireBlock extends WireBlock {
     // If we start at 8,8,8 and subtract/add to/from 8, we do operations starting from the center.
     private static final int OFFSET = 2;
@@ -51,6 +48,7 @@ public class AluminumWireBlock extends WireBlock {
     public static final VoxelShape UP = box(8 - OFFSET, 8 - OFFSET, 8 - OFFSET, 8 + OFFSET, 16, 8 + OFFSET);
     public static final VoxelShape DOWN = box(8 - OFFSET, 0, 8 - OFFSET, 8 + OFFSET, 8 + OFFSET, 8 + OFFSET);
     public static final VoxelShape NONE = box(8 - OFFSET, 8 - OFFSET, 8 - OFFSET, 8 + OFFSET, 8 + OFFSET, 8 + OFFSET);    // 6x6x6 box in the center.
+    private static final ConnectionShapeCache SHAPES = ConnectionShapeCache.of(NONE, NORTH, SOUTH, EAST, WEST, UP, DOWN);
 
     public AluminumWireBlock(Properties settings) {
         super(settings);
@@ -59,29 +57,7 @@ public AluminumWireBlock(Properties settings) {
     @Override
     public VoxelShape getShape(BlockState blockState, BlockGetter level, BlockPos blockPos, CollisionContext context) {
         if (level.getBlockEntity(blockPos) instanceof WireBlockEntity wire) {
-            List<VoxelShape> shapes = new ArrayList<>();
-
-            if (wire.getConnections()[2]) {
-                shapes.add(NORTH);
-            }
-            if (wire.getConnections()[3]) {
-                shapes.add(SOUTH);
-            }
-            if (wire.getConnections()[5]) {
-                shapes.add(EAST);
-            }
-            if (wire.getConnections()[4]) {
-                shapes.add(WEST);
-            }
-            if (wire.getConnections()[1]) {
-                shapes.add(UP);
-            }
-            if (wire.getConnections()[0]) {
-                shapes.add(DOWN);
-            }
-            if (!shapes.isEmpty()) {
-                return Shapes.or(NONE, shapes.toArray(VoxelShape[]::new));
-            }
+            return SHAPES.get(wire);
         }
         return NONE;
     }
@@ -27,6 +27,7 @@
 import dev.galacticraft.mod.content.GCBlockEntityTypes;
 import dev.galacticraft.mod.content.block.entity.networked.WireBlockEntity;
 import dev.galacticraft.mod.util.ConnectingBlockUtil;
+import dev.galacticraft.mod.util.ConnectionShapeCache;
 import dev.galacticraft.mod.util.DirectionUtil;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
@@ -39,13 +40,10 @@
 import net.minecraft.world.level.block.state.StateDefinition;
 import net.minecraft.world.level.block.state.properties.BlockStateProperties;
 import net.minecraft.world.phys.shapes.CollisionContext;
-import net.minecraft.world.phys.shapes.Shapes;
 import net.minecraft.world.phys.shapes.VoxelShape;
 import org.jetbrains.annotations.Nullable;
 import team.reborn.energy.api.EnergyStorage;
 
-import java.util.ArrayList;
-
 public class HeavyAluminumWireBlock extends WireBlock {
     // If we start at 8,8,8 and subtract/add to/from 8, we do operations starting from the center.
     private static final int OFFSET = 2;
@@ -56,6 +54,7 @@ public class HeavyAluminumWireBlock extends WireBlock {
     private static final VoxelShape UP = box(8 - OFFSET, 8 - OFFSET, 8 - OFFSET, 8 + OFFSET, 16, 8 + OFFSET);
     private static final VoxelShape DOWN = box(8 - OFFSET, 0, 8 - OFFSET, 8 + OFFSET, 8 + OFFSET, 8 + OFFSET);
     private static final VoxelShape NONE = box(8 - OFFSET, 8 - OFFSET, 8 - OFFSET, 8 + OFFSET, 8 + OFFSET, 8 + OFFSET);    // 6x6x6 box in the center.
+    private static final ConnectionShapeCache SHAPES = ConnectionShapeCache.of(NONE, NORTH, SOUTH, EAST, WEST, UP, DOWN);
 
     public HeavyAluminumWireBlock(Properties settings) {
         super(settings);
@@ -67,31 +66,7 @@ public HeavyAluminumWireBlock(Properties settings) {
 
     @Override
     public VoxelShape getShape(BlockState blockState, BlockGetter blockView, BlockPos blockPos, CollisionContext context) {
-        ArrayList<VoxelShape> shapes = new ArrayList<>();
-
-        if (blockState.getValue(BlockStateProperties.NORTH)) {
-            shapes.add(NORTH);
-        }
-        if (blockState.getValue(BlockStateProperties.SOUTH)) {
-            shapes.add(SOUTH);
-        }
-        if (blockState.getValue(BlockStateProperties.EAST)) {
-            shapes.add(EAST);
-        }
-        if (blockState.getValue(BlockStateProperties.WEST)) {
-            shapes.add(WEST);
-        }
-        if (blockState.getValue(BlockStateProperties.UP)) {
-            shapes.add(UP);
-        }
-        if (blockState.getValue(BlockStateProperties.DOWN)) {
-            shapes.add(DOWN);
-        }
-        if (shapes.isEmpty()) {
-            return NONE;
-        } else {
-            return Shapes.or(NONE, shapes.toArray(new VoxelShape[0]));
-        }
+        return SHAPES.get(blockState);
     }
 
     @Override
@@ -27,7 +27,7 @@
 import dev.galacticraft.mod.api.block.entity.Connected;
 import dev.galacticraft.mod.content.block.entity.networked.GlassFluidPipeBlockEntity;
 import dev.galacticraft.mod.content.item.StandardWrenchItem;
-import dev.galacticraft.mod.util.ConnectingBlockUtil;
+import dev.galacticraft.mod.util.ConnectionShapeCache;
 import dev.galacticraft.mod.util.DirectionUtil;
 import dev.galacticraft.mod.util.FluidUtil;
 import net.minecraft.core.BlockPos;
@@ -54,6 +54,7 @@ public class GlassFluidPipeBlock extends FluidPipe {
     public static final VoxelShape UP = box(6, 6, 6, 10, 16, 10);
     public static final VoxelShape DOWN = box(6, 0, 6, 10, 10, 10);
     public static final VoxelShape NONE = box(6, 6, 6, 10, 10, 10);
+    private static final ConnectionShapeCache SHAPES = ConnectionShapeCache.of(NONE, NORTH, SOUTH, EAST, WEST, UP, DOWN);
 
     public GlassFluidPipeBlock(Properties settings) {
         super(settings);
@@ -142,7 +143,7 @@ public void neighborChanged(BlockState blockState, Level level, BlockPos blockPo
     @Override
     public VoxelShape getShape(BlockState blockState, BlockGetter level, BlockPos blockPos, CollisionContext context) {
         if (level.getBlockEntity(blockPos) instanceof Connected connected) {
-            return ConnectingBlockUtil.getVoxelShape(connected, NORTH, SOUTH, EAST, WEST, UP, DOWN, NONE);
+            return SHAPES.get(connected);
         }
         return NONE;
     }
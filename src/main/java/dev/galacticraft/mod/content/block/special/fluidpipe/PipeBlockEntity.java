@@ -66,18 +66,18 @@ public void forceCreateNetwork() {
     private void createNetwork() {
         assert this.network == null || this.network.markedForRemoval();
         if (!this.level.isClientSide) {
-            this.network = new PipeNetworkImpl((ServerLevel) this.level, this.maxTransferRate, this.getBlockPos());
+            PipeNetworkImpl.create((ServerLevel) this.level, this.maxTransferRate, this);
         }
     }
 
     @Override
     public void setNetwork(@Nullable PipeNetwork network) {
-        if ((this.network == null || this.network.markedForRemoval()) && (network != null && !network.markedForRemoval())) {
-            this.network = network;
-            this.level.updateNeighborsAt(this.getBlockPos(), this.getBlockState().getBlock());
-        } else {
-            this.network = network;
-        }
+        this.network = network;
+    }
+
+    @Override
+    public void onNetworkJoined() {
+        this.level.updateNeighborsAt(this.getBlockPos(), this.getBlockState().getBlock());
     }
 
     @Override
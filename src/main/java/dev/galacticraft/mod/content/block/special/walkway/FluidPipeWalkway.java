@@ -32,6 +32,7 @@
 import dev.galacticraft.mod.content.block.special.fluidpipe.GlassFluidPipeBlock;
 import dev.galacticraft.mod.content.block.special.fluidpipe.PipeBlockEntity;
 import dev.galacticraft.mod.util.ConnectingBlockUtil;
+import dev.galacticraft.mod.util.ConnectionShapeCache;
 import dev.galacticraft.mod.util.DirectionUtil;
 import dev.galacticraft.mod.util.FluidUtil;
 import net.minecraft.core.BlockPos;
@@ -61,7 +62,7 @@
 
 public class FluidPipeWalkway extends FluidPipe implements FluidLoggable {
     public static final MapCodec<FluidPipeWalkway> CODEC = simpleCodec(FluidPipeWalkway::new);
-    private static final VoxelShape[] SHAPES = new VoxelShape[64];
+    private static final ConnectionShapeCache SHAPES = ConnectionShapeCache.walkway(GlassFluidPipeBlock.NORTH, GlassFluidPipeBlock.SOUTH, GlassFluidPipeBlock.EAST, GlassFluidPipeBlock.WEST, GlassFluidPipeBlock.UP, GlassFluidPipeBlock.DOWN);
 
     public FluidPipeWalkway(Properties settings) {
         super(settings);
@@ -76,18 +77,10 @@ protected MapCodec<? extends Block> codec() {
         return CODEC;
     }
 
-    private static int getFacingMask(Direction direction) {
-        return 1 << direction.get3DDataValue();
-    }
-
     @Override
     public VoxelShape getShape(BlockState blockState, BlockGetter level, BlockPos blockPos, CollisionContext context) {
         if (level.getBlockEntity(blockPos) instanceof FluidPipeWalkwayBlockEntity walkway) {
-            var index = getFacingMask(walkway.getDirection());
-            if (SHAPES[index] != null) {
-                return ConnectingBlockUtil.getVoxelShape(walkway, GlassFluidPipeBlock.NORTH, GlassFluidPipeBlock.SOUTH, GlassFluidPipeBlock.EAST, GlassFluidPipeBlock.WEST, GlassFluidPipeBlock.UP, GlassFluidPipeBlock.DOWN, SHAPES[index]);
-            }
-            return ConnectingBlockUtil.getVoxelShape(walkway, GlassFluidPipeBlock.NORTH, GlassFluidPipeBlock.SOUTH, GlassFluidPipeBlock.EAST, GlassFluidPipeBlock.WEST, GlassFluidPipeBlock.UP, GlassFluidPipeBlock.DOWN, SHAPES[index] = ConnectingBlockUtil.createWalkwayShape(walkway.getDirection()));
+            return SHAPES.get(walkway.getDirection(), walkway);
         }
         return ConnectingBlockUtil.WALKWAY_TOP;
     }
@@ -121,7 +114,6 @@ protected ItemInteractionResult useItemOn(ItemStack stack, BlockState state, Lev
         return super.useItemOn(stack, state, level, pos, player, hand, hit);
     }
 
-
     @Override
     public void setPlacedBy(Level level, BlockPos blockPos, BlockState blockState, @Nullable LivingEntity livingEntity, ItemStack itemStack) {
         super.setPlacedBy(level, blockPos, blockState, livingEntity, itemStack);
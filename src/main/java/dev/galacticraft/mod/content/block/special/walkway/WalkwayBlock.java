@@ -22,10 +22,10 @@
 
 package dev.galacticraft.mod.content.block.special.walkway;
 
-import com.google.common.collect.Lists;
 import dev.galacticraft.mod.api.block.FluidLoggable;
 import dev.galacticraft.mod.content.block.entity.WalkwayBlockEntity;
 import dev.galacticraft.mod.util.ConnectingBlockUtil;
+import dev.galacticraft.mod.util.ConnectionShapeCache;
 import dev.galacticraft.mod.util.DirectionUtil;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
@@ -44,7 +44,6 @@
 import net.minecraft.world.level.material.FlowingFluid;
 import net.minecraft.world.level.material.FluidState;
 import net.minecraft.world.phys.shapes.CollisionContext;
-import net.minecraft.world.phys.shapes.Shapes;
 import net.minecraft.world.phys.shapes.VoxelShape;
 import org.jetbrains.annotations.Nullable;
 
@@ -58,7 +57,7 @@ public class WalkwayBlock extends Block implements FluidLoggable, EntityBlock {
     private static final VoxelShape WEST = box(0, 8 - OFFSET, 8 - OFFSET, 8 + OFFSET, 8 + OFFSET, 8 + OFFSET);
     private static final VoxelShape UP = box(8 - OFFSET, 8 - OFFSET, 8 - OFFSET, 8 + OFFSET, 16, 8 + OFFSET);
     private static final VoxelShape DOWN = box(8 - OFFSET, 0, 8 - OFFSET, 8 + OFFSET, 8 + OFFSET, 8 + OFFSET);
-    private static final VoxelShape[] SHAPES = new VoxelShape[64];
+    private static final ConnectionShapeCache SHAPES = ConnectionShapeCache.walkway(NORTH, SOUTH, EAST, WEST, UP, DOWN);
 
     public WalkwayBlock(Properties settings) {
         super(settings);
@@ -68,38 +67,10 @@ public WalkwayBlock(Properties settings) {
                 .setValue(FlowingFluid.FALLING, false));
     }
 
-    private static int getFacingMask(Direction direction) {
-        return 1 << direction.get3DDataValue();
-    }
-
     @Override
     public VoxelShape getShape(BlockState blockState, BlockGetter level, BlockPos blockPos, CollisionContext context) {
         if (level.getBlockEntity(blockPos) instanceof WalkwayBlockEntity walkway) {
-            var index = getFacingMask(walkway.getDirection());
-            var shapes = Lists.newArrayList(ConnectingBlockUtil.WALKWAY_TOP);
-
-            if (walkway.getConnections()[2]) {
-                shapes.add(NORTH);
-            }
-            if (walkway.getConnections()[3]) {
-                shapes.add(SOUTH);
-            }
-            if (walkway.getConnections()[5]) {
-                shapes.add(EAST);
-            }
-            if (walkway.getConnections()[4]) {
-                shapes.add(WEST);
-            }
-            if (walkway.getConnections()[1]) {
-                shapes.add(UP);
-            }
-            if (walkway.getConnections()[0]) {
-                shapes.add(DOWN);
-            }
-            if (SHAPES[index] != null) {
-                return Shapes.or(SHAPES[index], shapes.toArray(VoxelShape[]::new));
-            }
-            return Shapes.or(SHAPES[index] = ConnectingBlockUtil.createWalkwayShape(walkway.getDirection()), shapes.toArray(VoxelShape[]::new));
+            return SHAPES.get(walkway.getDirection(), walkway);
         }
         return ConnectingBlockUtil.WALKWAY_TOP;
     }
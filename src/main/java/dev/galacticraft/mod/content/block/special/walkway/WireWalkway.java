@@ -22,7 +22,6 @@
 
 package dev.galacticraft.mod.content.block.special.walkway;
 
-import com.google.common.collect.Lists;
 import dev.galacticraft.mod.api.block.FluidLoggable;
 import dev.galacticraft.mod.api.block.WireBlock;
 import dev.galacticraft.mod.api.wire.Wire;
@@ -30,6 +29,7 @@
 import dev.galacticraft.mod.content.block.entity.networked.WireWalkwayBlockEntity;
 import dev.galacticraft.mod.content.block.special.aluminumwire.tier1.AluminumWireBlock;
 import dev.galacticraft.mod.util.ConnectingBlockUtil;
+import dev.galacticraft.mod.util.ConnectionShapeCache;
 import dev.galacticraft.mod.util.DirectionUtil;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
@@ -46,7 +46,6 @@
 import net.minecraft.world.level.material.FlowingFluid;
 import net.minecraft.world.level.material.FluidState;
 import net.minecraft.world.phys.shapes.CollisionContext;
-import net.minecraft.world.phys.shapes.Shapes;
 import net.minecraft.world.phys.shapes.VoxelShape;
 import org.jetbrains.annotations.Nullable;
 import team.reborn.energy.api.EnergyStorage;
@@ -54,7 +53,7 @@
 import java.util.Objects;
 
 public class WireWalkway extends WireBlock implements FluidLoggable {
-    private static final VoxelShape[] SHAPES = new VoxelShape[64];
+    private static final ConnectionShapeCache SHAPES = ConnectionShapeCache.walkway(AluminumWireBlock.NORTH, AluminumWireBlock.SOUTH, AluminumWireBlock.EAST, AluminumWireBlock.WEST, AluminumWireBlock.UP, AluminumWireBlock.DOWN);
 
     public WireWalkway(Properties settings) {
         super(settings);
@@ -64,38 +63,10 @@ public WireWalkway(Properties settings) {
                 .setValue(FlowingFluid.FALLING, false));
     }
 
-    private static int getFacingMask(Direction direction) {
-        return 1 << direction.get3DDataValue();
-    }
-
     @Override
     public VoxelShape getShape(BlockState blockState, BlockGetter level, BlockPos blockPos, CollisionContext context) {
         if (level.getBlockEntity(blockPos) instanceof WireWalkwayBlockEntity walkway) {
-            var index = getFacingMask(walkway.getDirection());
-            var shapes = Lists.newArrayList(ConnectingBlockUtil.WALKWAY_TOP);
-
-            if (walkway.getConnections()[2]) {
-                shapes.add(AluminumWireBlock.NORTH);
-            }
-            if (walkway.getConnections()[3]) {
-                shapes.add(AluminumWireBlock.SOUTH);
-            }
-            if (walkway.getConnections()[5]) {
-                shapes.add(AluminumWireBlock.EAST);
-            }
-            if (walkway.getConnections()[4]) {
-                shapes.add(AluminumWireBlock.WEST);
-            }
-            if (walkway.getConnections()[1]) {
-                shapes.add(AluminumWireBlock.UP);
-            }
-            if (walkway.getConnections()[0]) {
-                shapes.add(AluminumWireBlock.DOWN);
-            }
-            if (SHAPES[index] != null) {
-                return Shapes.or(SHAPES[index], shapes.toArray(VoxelShape[]::new));
-            }
-            return Shapes.or(SHAPES[index] = ConnectingBlockUtil.createWalkwayShape(walkway.getDirection()), shapes.toArray(VoxelShape[]::new));
+            return SHAPES.get(walkway.getDirection(), walkway);
         }
         return ConnectingBlockUtil.WALKWAY_TOP;
     }
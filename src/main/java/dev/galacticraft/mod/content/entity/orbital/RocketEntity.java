@@ -94,6 +94,10 @@
 @SuppressWarnings("UnstableApiUsage")
 public class RocketEntity extends AdvancedVehicle implements Rocket, IgnoreShift, ControllableEntity {
     private static final ResourceLocation NULL_ID = ResourceLocation.withDefaultNamespace("null");
+    /**
+     * The height at which a launched rocket leaves the level and its passengers are sent to the celestial screen.
+     */
+    private static final double ESCAPE_HEIGHT = 1200.0;
     private static final EntityDataAccessor<LaunchStage> STAGE = SynchedEntityData.defineId(RocketEntity.class, GCEntityDataSerializers.LAUNCH_STAGE);
 
     private static final EntityDataAccessor<Integer> TIME_AS_STATE = SynchedEntityData.defineId(RocketEntity.class, EntityDataSerializers.INT);
@@ -448,7 +452,7 @@ && level().getBlockState(dockPos).getValue(AbstractLaunchPad.PART) != AbstractLa
                     this.setDeltaMovement(calculateVelocity());
                 }
 
-                if (this.position().y() >= 1200.0F) {
+                if (this.position().y() >= ESCAPE_HEIGHT) {
                     // will need to change is for rockets that are launched via launch controllers
                     if (this.getPassengers().isEmpty()) {
                         this.remove(RemovalReason.DISCARDED);
@@ -476,7 +480,13 @@ && level().getBlockState(dockPos).getValue(AbstractLaunchPad.PART) != AbstractLa
                 this.setDeltaMovement(calculateVelocity());
             }
 
-            this.move(MoverType.SELF, this.getDeltaMovement());
+            if (this.isAscending()) {
+                // nothing above the build height can be hit, so skip collision checks for the rest of the ascent
+                this.setPos(this.position().add(this.getDeltaMovement()));
+                this.setOnGround(false);
+            } else {
+                this.move(MoverType.SELF, this.getDeltaMovement());
+            }
 
             if (getLaunchStage() == LaunchStage.FAILED) {
                 setRot((this.getYRot() + level().random.nextFloat() - 0.5F * 8.0F) % 360.0F, (this.getXRot() + level().random.nextFloat() - 0.5F * 8.0F) % 360.0F);
@@ -506,6 +516,17 @@ && level().getBlockState(dockPos).getValue(AbstractLaunchPad.PART) != AbstractLa
         }
     }
 
+    /**
+     * {@return whether this rocket is launched and stays clear of the build height of its level during its next move}
+     */
+    public boolean isAscending() {
+        if (this.getLaunchStage() != LaunchStage.LAUNCHED) return false;
+        double minY = this.getBoundingBox().minY;
+        int maxBuildHeight = this.level().getMaxBuildHeight();
+        // a falling rocket must not skip the collision checks that would stop it from sinking into the build volume
+        return minY >= maxBuildHeight && minY + this.getDeltaMovement().y >= maxBuildHeight;
+    }
+
     public Vec3 calculateVelocity() {
         double d = this.timeSinceLaunch / 150;
         double velX = -(50 * Math.cos(this.getYRot() / Mth.RAD_TO_DEG) * Math.sin(this.getXRot() * 0.01 / Constant.RADIANS_TO_DEGREES)) * (this.getSpeed() * 0.632D) * 1.58227848D;
@@ -24,7 +24,6 @@
 
 import com.mojang.datafixers.util.Pair;
 import dev.galacticraft.api.entity.IgnoreShift;
-import dev.galacticraft.api.universe.celestialbody.CelestialBody;
 import dev.galacticraft.mod.Constant;
 import dev.galacticraft.mod.attachments.GCServerPlayer;
 import dev.galacticraft.mod.content.GCEntityTypes;
@@ -45,7 +44,6 @@
 import net.fabricmc.fabric.api.transfer.v1.item.InventoryStorage;
 import net.fabricmc.fabric.api.transfer.v1.storage.Storage;
 import net.fabricmc.fabric.api.transfer.v1.transaction.Transaction;
-import net.minecraft.core.Holder;
 import net.minecraft.core.NonNullList;
 import net.minecraft.core.registries.Registries;
 import net.minecraft.nbt.CompoundTag;
@@ -265,8 +263,7 @@ public void tickOnGround() {
 
     public void tickInAir() {
         if (!this.onGround()) {
-            Holder<CelestialBody<?, ?>> holder = this.level().galacticraft$getCelestialBody();
-            this.addDeltaMovement(new Vec3(0, (holder != null ? holder.value().gravity() : 1.0d) * -0.008D, 0));
+            this.addDeltaMovement(new Vec3(0, this.level().galacticraft$getEnvironment().gravity() * -0.008D, 0));
         }
 
         double motY = -1 * Math.sin(getXRot() / Constant.RADIANS_TO_DEGREES);
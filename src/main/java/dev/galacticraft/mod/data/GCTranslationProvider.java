@@ -773,6 +773,13 @@ protected void generateConfigTranslations() {
         this.add(Config.PLAYER_LIFE_SUPPORT, "Life Support");
         this.add(Config.PLAYER, "Player");
         this.add(Config.PLAYER_OXYGEN_CONSUMPTION_RATE, "Oxygen Consumption Rate/t");
+        this.add(Config.PERFORMANCE, "Performance");
+        this.add(Config.OXYGEN, "Oxygen");
+        this.add(Config.OXYGEN_SYNC_INTERVAL, "Oxygen Sync Interval (ticks)");
+        this.add(Config.OXYGEN_SYNC_INTERVAL_DESC, "How many ticks oxygen changes in a chunk are collected before they are sent to clients");
+        this.add(Config.SATELLITES, "Space Stations");
+        this.add(Config.SATELLITE_UNLOAD_DELAY, "Idle Unload Delay (seconds)");
+        this.add(Config.SATELLITE_UNLOAD_DELAY_DESC, "How long a space station without players or force-loaded chunks stays loaded. 0 keeps stations loaded once they are used");
         this.add(Config.RESET, "Reset");
         this.add(Config.TITLE, "Galacticraft Config");
         
@@ -826,6 +833,7 @@ protected void generateMachineStatusTranslations() {
         this.add(MachineStatus.ALREADY_SEALED, "Already Sealed");
         this.add(MachineStatus.AREA_TOO_LARGE, "Area Too Large");
         this.add(MachineStatus.BLOCKED, "Blocked");
+        this.add(MachineStatus.CHECKING_SEAL, "Checking Seal");
         this.add(MachineStatus.COLLECTING, "Collecting");
         this.add(MachineStatus.COMPRESSING, "Compressing");
         this.add(MachineStatus.COOLING_DOWN, "Cooling Down");
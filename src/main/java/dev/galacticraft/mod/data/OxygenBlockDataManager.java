@@ -38,9 +38,11 @@
 import net.minecraft.server.packs.resources.ResourceManager;
 import net.minecraft.util.GsonHelper;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.CropBlock;
 import net.minecraft.world.level.block.LeavesBlock;
 import net.minecraft.world.level.block.state.BlockState;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.Reader;
 import java.util.*;
@@ -55,6 +57,8 @@ public class OxygenBlockDataManager implements SimpleSynchronousResourceReloadLi
     private static final Gson GSON = new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create();
 
     private final Map<BlockState, Float> blocks = new HashMap<>();
+    private float @Nullable [] oxygenById = null;
+    private int generation = 0;
 
     public static float getOxygen(Level level, BlockPos pos, BlockState state) {
         if (state.getBlock() instanceof OxygenProvidingBlock oxygenProvidingBlock)
@@ -63,17 +67,51 @@ public static float getOxygen(Level level, BlockPos pos, BlockState state) {
     }
 
     public static float getOxygen(BlockState state) {
+        float[] table = INSTANCE.oxygenById;
+        int id = Block.getId(state);
+        if (table != null && id >= 0 && id < table.length) {
+            return table[id];
+        }
+        return INSTANCE.computeOxygen(state);
+    }
+
+    private float computeOxygen(BlockState state) {
         boolean fallbackBehavior = true; // Probably make this a config value?
-        if (!INSTANCE.blocks.containsKey(state) && fallbackBehavior) {
-            if (state.getBlock() instanceof LeavesBlock && !state.getValue(LeavesBlock.PERSISTENT)) {
-                return 1;
-            } else if (state.getBlock() instanceof CropBlock) {
-                return 0.75F;
+        Float amount = this.blocks.get(state);
+        if (amount == null) {
+            if (fallbackBehavior) {
+                if (state.getBlock() instanceof LeavesBlock && !state.getValue(LeavesBlock.PERSISTENT)) {
+                    return 1;
+                } else if (state.getBlock() instanceof CropBlock) {
+                    return 0.75F;
+                }
             }
-
             return 0;
         }
-        return INSTANCE.blocks.get(state);
+        return amount;
+    }
+
+    /**
+     * Resolves the oxygen amount of every block state (including the fallback rules) into a table indexed by
+     * {@link Block#getId(BlockState) block state id}.
+     */
+    private void bakeTable() {
+        float[] table = new float[Block.BLOCK_STATE_REGISTRY.size()];
+        for (BlockState state : Block.BLOCK_STATE_REGISTRY) {
+            int id = Block.getId(state);
+            if (id >= 0 && id < table.length) {
+                table[id] = this.computeOxygen(state);
+            }
+        }
+        this.oxygenById = table;
+    }
+
+    /**
+     * {@return a number that changes whenever the oxygen data is reloaded}
+     * Allows callers to detect when oxygen values they cached have become stale.
+     */
+    public static int getGeneration() {
+        return INSTANCE.generation;
     }
 
     @Override
@@ -84,6 +122,8 @@ public ResourceLocation getFabricId() {
     @Override
     public void onResourceManagerReload(ResourceManager manager) {
         blocks.clear();
+        oxygenById = null;
+        generation++;
         for (String namespace : manager.getNamespaces()) {
             ResourceLocation path = ResourceLocation.fromNamespaceAndPath(namespace, "oxygen/blocks.json");
             List<Resource> resources = manager.getResourceStack(path);
@@ -120,6 +160,7 @@ public void onResourceManagerReload(ResourceManager manager) {
             }
 
         }
+        bakeTable();
     }
 
     public record OxygenData(BlockState state, float amount, boolean replace) {
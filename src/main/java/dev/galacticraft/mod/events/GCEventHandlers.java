@@ -25,12 +25,17 @@
 import dev.galacticraft.api.universe.celestialbody.CelestialBody;
 import dev.galacticraft.api.universe.celestialbody.landable.Landable;
 import dev.galacticraft.api.universe.celestialbody.landable.teleporter.CelestialTeleporter;
+import dev.galacticraft.mod.accessor.ServerLevelAccessor;
+import dev.galacticraft.mod.api.wire.impl.WireNetworkImpl;
+import dev.galacticraft.mod.content.block.entity.machine.OxygenBubbleDistributorBlockEntity;
 import dev.galacticraft.mod.content.block.special.CryogenicChamberBlock;
 import dev.galacticraft.mod.content.block.special.CryogenicChamberPart;
 import dev.galacticraft.mod.misc.footprint.FootprintManager;
+import dev.galacticraft.mod.misc.footprint.ServerFootprintManager;
 import dev.galacticraft.mod.network.s2c.FootprintRemovedPacket;
 import dev.galacticraft.mod.util.Translations;
 import net.fabricmc.fabric.api.entity.event.v1.EntitySleepEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerChunkEvents;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
 import net.fabricmc.fabric.api.networking.v1.PlayerLookup;
 import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
@@ -50,6 +55,7 @@
 import net.minecraft.world.level.block.BedBlock;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.properties.BlockStateProperties;
+import net.minecraft.world.level.chunk.LevelChunk;
 import org.jetbrains.annotations.Nullable;
 
 public class GCEventHandlers {
@@ -60,6 +66,8 @@ public static void init() {
         EntitySleepEvents.ALLOW_SLEEP_TIME.register(GCEventHandlers::canCryoSleep);
         EntitySleepEvents.STOP_SLEEPING.register(GCEventHandlers::onWakeFromCryoSleep);
         ServerTickEvents.END_WORLD_TICK.register(GCEventHandlers::onWorldTick);
+        ServerChunkEvents.CHUNK_LOAD.register(GCEventHandlers::onChunkLoad);
+        ServerChunkEvents.CHUNK_UNLOAD.register(GCEventHandlers::onChunkUnload);
     }
 
     public static InteractionResult allowCryogenicSleep(LivingEntity entity, BlockPos sleepingPos, BlockState state, boolean vanillaResult) {
@@ -134,6 +142,12 @@ public static void onPlayerTick(Player player) {
     }
 
     public static void onWorldTick(ServerLevel world) {
+        WireNetworkImpl.settle(world);
+
+        if (world.getGameTime() % OxygenBubbleDistributorBlockEntity.SIZE_SYNC_INTERVAL == 0) {
+            ((ServerLevelAccessor) world).sendBubbleSizes();
+        }
+
         FootprintManager footprintManager = world.galacticraft$getFootprintManager();
         if (!footprintManager.footprintBlockChanges.isEmpty()) {
             for (GlobalPos targetPoint : footprintManager.footprintBlockChanges) {
@@ -149,4 +163,12 @@ public static void onWorldTick(ServerLevel world) {
             footprintManager.footprintBlockChanges.clear();
         }
     }
-}
\ No newline at end of file
+
+    public static void onChunkLoad(ServerLevel level, LevelChunk chunk) {
+        ((ServerFootprintManager) level.galacticraft$getFootprintManager()).onChunkLoad(chunk);
+    }
+
+    public static void onChunkUnload(ServerLevel level, LevelChunk chunk) {
+        level.galacticraft$getFootprintManager().unloadChunk(chunk.getPos().toLong());
+    }
+}
@@ -0,0 +1,291 @@
+/*
+ * Copyright (c) 2019-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.mod.machine;
+
+import dev.galacticraft.mod.Constant;
+import dev.galacticraft.mod.accessor.ServerLevelAccessor;
+import it.unimi.dsi.fastutil.bytes.ByteArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.shapes.VoxelShape;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Finds the breathable volume enclosed around an oxygen sealer.
+ * Positions are stored packed (see {@link BlockPos#asLong()}). The search is resumable, so that a large volume can be
+ * processed over several ticks, and only the positions whose breathability changed are written to the level once a
+ * search completes. Opening a wall of the sealed volume only searches the newly reachable space; any other change
+ * falls back to a full search.
+ */
+public class SealDetector {
+    private final int maxSize;
+
+    private LongOpenHashSet breathable = new LongOpenHashSet();
+    private LongOpenHashSet watching = new LongOpenHashSet();
+
+    private final LongArrayFIFOQueue frontier = new LongArrayFIFOQueue();
+    private final ByteArrayFIFOQueue frontierDirections = new ByteArrayFIFOQueue();
+    private LongOpenHashSet found = new LongOpenHashSet();
+    private LongOpenHashSet foundWatching = new LongOpenHashSet();
+    private boolean searching = false;
+    private boolean extending = false;
+
+    private final LongArrayList openedWalls = new LongArrayList();
+    private boolean rebuildQueued = false;
+
+    public SealDetector(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Records a block change in the level.
+     *
+     * @param pos the packed position of the change
+     * @param shape the new collision shape at the position
+     * @return whether the change affects the sealed volume
+     */
+    public boolean markChanged(long pos, @NotNull VoxelShape shape) {
+        if (this.searching && (this.found.contains(pos) || this.foundWatching.contains(pos))) {
+            this.rebuildQueued = true;
+            return true;
+        }
+        if (this.breathable.contains(pos) && !shape.isEmpty()) {
+            this.rebuildQueued = true;
+            return true;
+        }
+        if (this.watching.contains(pos) && !Block.isShapeFullBlock(shape)) {
+            if (!this.rebuildQueued) this.openedWalls.add(pos);
+            return true;
+        }
+        return false;
+    }
+
+    public boolean hasPendingChanges() {
+        return this.rebuildQueued || !this.openedWalls.isEmpty();
+    }
+
+    /**
+     * {@return whether the pending changes can be handled by extending the current volume}
+     */
+    public boolean canExtend() {
+        return !this.rebuildQueued && !this.breathable.isEmpty();
+    }
+
+    public boolean isSearching() {
+        return this.searching;
+    }
+
+    public boolean isEmpty() {
+        return this.breathable.isEmpty();
+    }
+
+    public int size() {
+        return this.breathable.size();
+    }
+
+    /**
+     * Collects the chunk sections (see {@link SectionPos#asLong()}) that contain a position relevant to the volume,
+     * including positions found by a search that is still in progress.
+     *
+     * @param sections the set to add the packed section positions to
+     */
+    public void collectSections(@NotNull LongSet sections) {
+        collectSections(this.breathable, sections);
+        collectSections(this.watching, sections);
+        if (this.searching) {
+            collectSections(this.found, sections);
+            collectSections(this.foundWatching, sections);
+        }
+    }
+
+    /**
+     * Starts a search of the whole volume reachable from the given position.
+     * The current volume stays breathable until the search completes.
+     *
+     * @param origin the position to start the search from
+     */
+    public void start(@NotNull BlockPos origin) {
+        this.resetSearch();
+        this.rebuildQueued = false;
+        this.openedWalls.clear();
+        this.extending = false;
+        this.searching = true;
+        this.push(origin.asLong(), Direction.UP);
+    }
+
+    /**
+     * Starts a search of the space that became reachable through the walls opened since the last search.
+     *
+     * @param level the level the volume is in
+     */
+    public void extend(@NotNull ServerLevel level) {
+        this.resetSearch();
+        this.extending = true;
+        this.searching = true;
+        BlockPos.MutableBlockPos mutable = new BlockPos.MutableBlockPos();
+        for (int i = 0; i < this.openedWalls.size(); i++) {
+            long wall = this.openedWalls.getLong(i);
+            for (Direction direction : Constant.Misc.DIRECTIONS) {
+                long from = BlockPos.offset(wall, direction.getOpposite());
+                if (this.breathable.contains(from)) {
+                    mutable.set(from);
+                    if (!Block.isFaceFull(level.getBlockState(mutable).getCollisionShape(level, mutable), direction)) {
+                        this.push(wall, direction);
+                    }
+                }
+            }
+        }
+        this.openedWalls.clear();
+    }
+
+    /**
+     * Advances the current search.
+     *
+     * @param level the level the volume is in
+     * @param budget the maximum number of positions to visit
+     * @return the state of the search
+     */
+    public @NotNull Result step(@NotNull ServerLevel level, int budget) {
+        assert this.searching;
+        BlockPos.MutableBlockPos mutable = new BlockPos.MutableBlockPos();
+        while (!this.frontier.isEmpty()) {
+            if (budget-- <= 0) return Result.IN_PROGRESS;
+
+            long pos = this.frontier.dequeueLong();
+            Direction from = Direction.from3DDataValue(this.frontierDirections.dequeueByte());
+            if (this.isFound(pos)) continue;
+
+            mutable.set(pos);
+            BlockState state = level.getBlockState(mutable);
+            VoxelShape shape = state.getCollisionShape(level, mutable);
+            if (state.isAir() || !Block.isFaceFull(shape, from.getOpposite())) {
+                this.found.add(pos);
+                if ((this.extending ? this.breathable.size() : 0) + this.found.size() > this.maxSize) {
+                    this.clear(level);
+                    return Result.TOO_LARGE;
+                }
+                for (Direction direction : Constant.Misc.DIRECTIONS) {
+                    long next = BlockPos.offset(pos, direction);
+                    if (!this.isFound(next) && !Block.isFaceFull(shape, direction)) {
+                        this.push(next, direction);
+                    }
+                }
+            } else {
+                this.foundWatching.add(pos);
+            }
+        }
+
+        this.commit(level);
+        return Result.SEALED;
+    }
+
+    /**
+     * Releases the oxygen of every position of the volume and cancels any search in progress.
+     *
+     * @param level the level the volume is in
+     */
+    public void clear(@NotNull ServerLevel level) {
+        ((ServerLevelAccessor) level).releaseOxygen(this.breathable);
+        this.reset();
+    }
+
+    /**
+     * Forgets the volume without modifying the level.
+     */
+    public void reset() {
+        this.breathable.clear();
+        this.watching.clear();
+        this.openedWalls.clear();
+        this.rebuildQueued = false;
+        this.resetSearch();
+    }
+
+    private static void collectSections(LongOpenHashSet positions, LongSet sections) {
+        for (LongIterator it = positions.iterator(); it.hasNext(); ) {
+            sections.add(SectionPos.blockToSection(it.nextLong()));
+        }
+    }
+
+    private boolean isFound(long pos) {
+        return this.found.contains(pos) || (this.extending && this.breathable.contains(pos));
+    }
+
+    private void push(long pos, Direction direction) {
+        this.frontier.enqueue(pos);
+        this.frontierDirections.enqueue((byte) direction.get3DDataValue());
+    }
+
+    private void commit(ServerLevel level) {
+        if (this.extending) {
+            ((ServerLevelAccessor) level).acquireOxygen(this.found);
+            this.breathable.addAll(this.found);
+            this.watching.removeAll(this.found);
+            this.watching.addAll(this.foundWatching);
+        } else {
+            LongArrayList removed = new LongArrayList();
+            for (LongIterator it = this.breathable.iterator(); it.hasNext(); ) {
+                long pos = it.nextLong();
+                if (!this.found.contains(pos)) removed.add(pos);
+            }
+            LongArrayList added = new LongArrayList();
+            for (LongIterator it = this.found.iterator(); it.hasNext(); ) {
+                long pos = it.nextLong();
+                if (!this.breathable.contains(pos)) added.add(pos);
+            }
+            ((ServerLevelAccessor) level).releaseOxygen(removed);
+            ((ServerLevelAccessor) level).acquireOxygen(added);
+
+            LongOpenHashSet previous = this.breathable;
+            this.breathable = this.found;
+            this.found = previous;
+            previous = this.watching;
+            this.watching = this.foundWatching;
+            this.foundWatching = previous;
+        }
+        this.resetSearch();
+    }
+
+    private void resetSearch() {
+        this.frontier.clear();
+        this.frontierDirections.clear();
+        this.found.clear();
+        this.foundWatching.clear();
+        this.searching = false;
+        this.extending = false;
+    }
+
+    public enum Result {
+        IN_PROGRESS,
+        SEALED,
+        TOO_LARGE
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2019-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.galacticraft.mod.misc.footprint;
+
+import com.mojang.serialization.Codec;
+import net.minecraft.util.Mth;
+
+import java.util.Arrays;
+import java.util.stream.LongStream;
+
+/**
+ * The footprints within a single chunk, stored as a fixed-capacity ring buffer of primitive arrays.
+ * Horizontal positions are relative to the chunk origin; the vertical position is absolute.
+ * All footprints age at the same rate, so the oldest footprint is always at the head of the buffer.
+ */
+public final class FootprintChunk {
+    public static final int CAPACITY = 128;
+    private static final int MASK = CAPACITY - 1;
+    public static final int NO_OWNER = -1;
+
+    /**
+     * Footprints are persisted in their packed form. Owners are entity ids, which do not survive a restart.
+     */
+    public static final Codec<FootprintChunk> CODEC = Codec.LONG_STREAM.xmap(stream -> {
+        FootprintChunk chunk = new FootprintChunk();
+        stream.forEach(packed -> chunk.addPacked(packed, NO_OWNER));
+        chunk.unsynced = 0;
+        return chunk;
+    }, chunk -> LongStream.of(chunk.pack(0, chunk.size, NO_OWNER)));
+
+    // Packed layout: x (12 bits), z (12 bits), rotation (8 bits), y (20 bits, signed) and age (12 bits).
+    private static final float HORIZONTAL_SCALE = 256.0F;
+    private static final float VERTICAL_SCALE = 256.0F;
+    private static final float ROTATION_SCALE = 256.0F / 360.0F;
+
+    private final float[] x = new float[CAPACITY];
+    private final float[] y = new float[CAPACITY];
+    private final float[] z = new float[CAPACITY];
+    private final float[] rotation = new float[CAPACITY];
+    private final short[] age = new short[CAPACITY];
+    private final int[] owner = new int[CAPACITY];
+    private int head;
+    private int size;
+    /**
+     * The number of newest footprints that have not been sent to tracking players yet.
+     */
+    private int unsynced;
+
+    public int size() {
+        return this.size;
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public float getX(int i) {
+        return this.x[(this.head + i) & MASK];
+    }
+
+    public float getY(int i) {
+        return this.y[(this.head + i) & MASK];
+    }
+
+    public float getZ(int i) {
+        return this.z[(this.head + i) & MASK];
+    }
+
+    public float getRotation(int i) {
+        return this.rotation[(this.head + i) & MASK];
+    }
+
+    public short getAge(int i) {
+        return this.age[(this.head + i) & MASK];
+    }
+
+    public int getOwner(int i) {
+        return this.owner[(this.head + i) & MASK];
+    }
+
+    /**
+     * Adds a footprint, overwriting the oldest one if the chunk is full.
+     *
+     * @param x the x position relative to the chunk origin
+     * @param y the absolute y position
+     * @param z the z position relative to the chunk origin
+     */
+    public void add(float x, float y, float z, float rotation, short age, int owner) {
+        if (this.size == CAPACITY) {
+            this.head = (this.head + 1) & MASK;
+            this.size--;
+        }
+        int index = (this.head + this.size) & MASK;
+        this.x[index] = x;
+        this.y[index] = y;
+        this.z[index] = z;
+        this.rotation[index] = rotation;
+        this.age[index] = age;
+        this.owner[index] = owner;
+        this.size++;
+        this.unsynced = Math.min(this.unsynced + 1, this.size);
+    }
+
+    /**
+     * Ages all footprints and drops the ones that have expired.
+     */
+    public void tick(short ticks) {
+        for (int i = 0; i < this.size; i++) {
+            int index = (this.head + i) & MASK;
+            this.age[index] += ticks;
+        }
+        while (this.size > 0 && this.age[this.head] >= Footprint.MAX_AGE) {
+            this.head = (this.head + 1) & MASK;
+            this.size--;
+        }
+        this.unsynced = Math.min(this.unsynced, this.size);
+    }
+
+    /**
+     * Removes all footprints within the given block column.
+     *
+     * @param localX the x coordinate of the column relative to the chunk origin
+     * @param localZ the z coordinate of the column relative to the chunk origin
+     * @return whether any footprint was removed
+     */
+    public boolean removeInColumn(int localX, int localZ) {
+        int kept = 0;
+        int unsynced = this.unsynced;
+        for (int i = 0; i < this.size; i++) {
+            int from = (this.head + i) & MASK;
+            if (Mth.floor(this.x[from]) == localX && Mth.floor(this.z[from]) == localZ) {
+                if (i >= this.size - this.unsynced) unsynced--;
+                continue;
+            }
+            int to = (this.head + kept++) & MASK;
+            if (from != to) {
+                this.x[to] = this.x[from];
+                this.y[to] = this.y[from];
+                this.z[to] = this.z[from];
+                this.rotation[to] = this.rotation[from];
+                this.age[to] = this.age[from];
+                this.owner[to] = this.owner[from];
+            }
+        }
+        boolean removed = kept != this.size;
+        this.size = kept;
+        this.unsynced = unsynced;
+        return removed;
+    }
+
+    public void clear() {
+        this.head = 0;
+        this.size = 0;
+        this.unsynced = 0;
+    }
+
+    public int getUnsynced() {
+        return this.unsynced;
+    }
+
+    public void markSynced() {
+        this.unsynced = 0;
+    }
+
+    /**
+     * Packs the footprints in the given range into fixed-point longs, skipping the ones made by {@code excludedOwner}.
+     *
+     * @param from the first (oldest) footprint to pack
+     * @param to the end of the range, exclusive
+     * @param excludedOwner the owner whose footprints should be skipped, or {@link #NO_OWNER}
+     */
+    public long[] pack(int from, int to, int excludedOwner) {
+        long[] packed = new long[to - from];
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            int index = (this.head + i) & MASK;
+            if (excludedOwner != NO_OWNER && this.owner[index] == excludedOwner) continue;
+            packed[count++] = pack(this.x[index], this.y[index], this.z[index], this.rotation[index], this.age[index]);
+        }
+        return count == packed.length ? packed : Arrays.copyOf(packed, count);
+    }
+
+    public void addPacked(long packed, int owner) {
+        this.add(
+                (packed & 0xFFF) / HORIZONTAL_SCALE,
+                ((int) (packed >> 32) << 12 >> 12) / VERTICAL_SCALE,
+                ((packed >> 12) & 0xFFF) / HORIZONTAL_SCALE,
+                ((packed >> 24) & 0xFF) / ROTATION_SCALE - 180.0F,
+                (short) ((packed >>> 52) & 0xFFF),
+                owner
+        );
+    }
+
+    public static long pack(float x, float y, float z, float rotation, short age) {
+        long qx = Mth.clamp((int) (x * HORIZONTAL_SCALE), 0, 0xFFF);
+        long qz = Mth.clamp((int) (z * HORIZONTAL_SCALE), 0, 0xFFF);
+        long qr = (int) ((Mth.wrapDegrees(rotation) + 180.0F) * ROTATION_SCALE) & 0xFF;
+        long qy = Mth.floor(y * VERTICAL_SCALE) & 0xFFFFF;
+        long qa = Mth.clamp(age, 0, 0xFFF);
+        return qx | qz << 12 | qr << 24 | qy << 32 | qa << 52;
+    }
+}
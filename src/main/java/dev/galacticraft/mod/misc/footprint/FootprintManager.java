@@ -19,62 +19,129 @@
  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
  * SOFTWARE.
  */
-
 package dev.galacticraft.mod.misc.footprint;
 
 import com.google.common.collect.Lists;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMaps;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import net.minecraft.core.BlockPos;
 import net.minecraft.core.GlobalPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
 import java.util.List;
 
 public class FootprintManager {
+    protected static final short AGE_INTERVAL = 20;
+
     public List<GlobalPos> footprintBlockChanges = Lists.newArrayList();
-    public Long2ObjectMap<List<Footprint>> globalFootprints = new Long2ObjectOpenHashMap<>();
+    protected final Long2ObjectMap<FootprintChunk> chunks = new Long2ObjectOpenHashMap<>();
 
     public void tick(Level level, long packedPos) {
-        if (level.getGameTime() % 20 == 0) {
+        if (level.getGameTime() % AGE_INTERVAL == 0) {
+            FootprintChunk chunk = this.chunks.get(packedPos);
+            if (chunk != null) {
+                chunk.tick(AGE_INTERVAL);
+                this.onChange(level, packedPos, chunk);
+                if (chunk.isEmpty()) {
+                    this.chunks.remove(packedPos);
+                }
+            }
+        }
+    }
 
-            Long2ObjectMap<List<Footprint>> footprintMap = globalFootprints;
-            if (footprintMap != null) {
-                List<Footprint> footprints = footprintMap.get(packedPos);
+    /**
+     * Ages the footprints of every loaded chunk. Used on the client, where chunks are not ticked individually.
+     */
+    public void tickAll(Level level) {
+        if (level.getGameTime() % AGE_INTERVAL == 0) {
+            ObjectIterator<Long2ObjectMap.Entry<FootprintChunk>> iterator = Long2ObjectMaps.fastIterator(this.chunks);
+            while (iterator.hasNext()) {
+                Long2ObjectMap.Entry<FootprintChunk> entry = iterator.next();
+                FootprintChunk chunk = entry.getValue();
+                chunk.tick(AGE_INTERVAL);
+                this.onChange(level, entry.getLongKey(), chunk);
+                if (chunk.isEmpty()) {
+                    iterator.remove();
+                }
+            }
+        }
+    }
 
-                if (footprints != null) {
-                    List<Footprint> toRemove = new ArrayList<>();
+    protected void onChange(Level level, long packedPos, FootprintChunk chunk) {
+    }
 
-                    for (Footprint footprint : footprints) {
-                        footprint.age += (short)20;
+    protected FootprintChunk createChunk(Level level, int chunkX, int chunkZ) {
+        return new FootprintChunk();
+    }
 
-                        if (footprint.age >= Footprint.MAX_AGE) {
-                            toRemove.add(footprint);
-                        }
-                    }
+    public void addFootprint(Level level, double x, double y, double z, float rotation, int owner) {
+        int chunkX = SectionPos.blockToSectionCoord(x);
+        int chunkZ = SectionPos.blockToSectionCoord(z);
+        FootprintChunk chunk = this.getOrCreateChunk(level, chunkX, chunkZ);
+        chunk.add(
+                (float) (x - SectionPos.sectionToBlockCoord(chunkX)),
+                (float) y,
+                (float) (z - SectionPos.sectionToBlockCoord(chunkZ)),
+                rotation,
+                (short) 0,
+                owner
+        );
+    }
 
-                    if (!toRemove.isEmpty()) {
-                        footprints.removeAll(toRemove);
-                    }
+    protected FootprintChunk getOrCreateChunk(Level level, int chunkX, int chunkZ) {
+        long packedPos = ChunkPos.asLong(chunkX, chunkZ);
+        FootprintChunk chunk = this.chunks.get(packedPos);
+        if (chunk == null) {
+            chunk = this.createChunk(level, chunkX, chunkZ);
+            this.chunks.put(packedPos, chunk);
+        }
+        return chunk;
+    }
 
-                    footprintMap.put(packedPos, footprints);
+    /**
+     * Removes every footprint on top of the given block.
+     */
+    public boolean removeFootprints(BlockPos pos) {
+        FootprintChunk chunk = this.chunks.get(ChunkPos.asLong(pos));
+        return chunk != null && chunk.removeInColumn(SectionPos.sectionRelative(pos.getX()), SectionPos.sectionRelative(pos.getZ()));
+    }
 
-                    onChange(level, packedPos, footprints);
-                }
-            }
+    /**
+     * Applies footprints received from the server.
+     *
+     * @param replace whether the received footprints are the full contents of the chunk
+     */
+    public void receiveFootprints(Level level, long packedPos, boolean replace, long[] footprints) {
+        FootprintChunk chunk = this.chunks.get(packedPos);
+        if (chunk == null) {
+            if (footprints.length == 0) return;
+            chunk = this.getOrCreateChunk(level, ChunkPos.getX(packedPos), ChunkPos.getZ(packedPos));
+        } else if (replace) {
+            chunk.clear();
+        }
+        for (long footprint : footprints) {
+            chunk.addPacked(footprint, FootprintChunk.NO_OWNER);
         }
     }
 
-    public void onChange(Level level, long pos, List<Footprint> footprints) {
+    public void loadChunk(long packedPos, FootprintChunk chunk) {
+        this.chunks.put(packedPos, chunk);
     }
 
-    public void addFootprint(long packedPos, Footprint footprint) {
-        List<Footprint> footprints = globalFootprints.computeIfAbsent(packedPos, key -> new ArrayList<>());
+    public void unloadChunk(long packedPos) {
+        this.chunks.remove(packedPos);
+    }
 
-        footprints.add(footprint);
+    public @Nullable FootprintChunk getChunk(long packedPos) {
+        return this.chunks.get(packedPos);
     }
 
-    public Long2ObjectMap<List<Footprint>> getFootprints() {
-        return globalFootprints;
+    public Long2ObjectMap<FootprintChunk> getChunks() {
+        return this.chunks;
     }
 }
@@ -19,28 +19,77 @@
  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
  * SOFTWARE.
  */
-
 package dev.galacticraft.mod.misc.footprint;
 
+import dev.galacticraft.mod.attachments.GCAttachments;
 import dev.galacticraft.mod.network.s2c.FootprintPacket;
 import net.fabricmc.fabric.api.networking.v1.PlayerLookup;
 import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
+import net.minecraft.core.BlockPos;
 import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.chunk.LevelChunk;
 
-import java.util.ArrayList;
-import java.util.List;
-
+@SuppressWarnings("UnstableApiUsage")
 public class ServerFootprintManager extends FootprintManager {
+    /**
+     * Sends the footprints made since the last sync to every player tracking the chunk.
+     * Players never receive their own footprints, as their client already placed them.
+     */
+    @Override
+    protected void onChange(Level level, long packedPos, FootprintChunk chunk) {
+        int unsynced = chunk.getUnsynced();
+        if (unsynced == 0) return;
+        chunk.markSynced();
+
+        int from = chunk.size() - unsynced;
+        long[] all = chunk.pack(from, chunk.size(), FootprintChunk.NO_OWNER);
+        for (ServerPlayer player : PlayerLookup.tracking((ServerLevel) level, new ChunkPos(packedPos))) {
+            long[] footprints = ownsAny(chunk, from, player.getId()) ? chunk.pack(from, chunk.size(), player.getId()) : all;
+            if (footprints.length > 0) {
+                ServerPlayNetworking.send(player, new FootprintPacket(packedPos, false, footprints));
+            }
+        }
+    }
+
+    /**
+     * Sends the synced footprints of a chunk to a player that just started tracking it.
+     * This replaces every footprint the client has for the chunk, so the player's own footprints are included.
+     * Footprints that have not been synced yet are sent with the next delta.
+     */
+    public void sendChunk(ServerPlayer player, long packedPos) {
+        FootprintChunk chunk = this.chunks.get(packedPos);
+        if (chunk == null) return;
+        long[] footprints = chunk.pack(0, chunk.size() - chunk.getUnsynced(), FootprintChunk.NO_OWNER);
+        if (footprints.length > 0) {
+            ServerPlayNetworking.send(player, new FootprintPacket(packedPos, true, footprints));
+        }
+    }
+
     @Override
-    public void onChange(Level level, long packedPos, List<Footprint> footprints) {
-        if (level.getGameTime() % 100 == 0) {
-            PlayerLookup.tracking((ServerLevel) level, new ChunkPos(packedPos)).forEach(player -> {
-                List<Footprint> toSync = new ArrayList<>(footprints);
-                toSync.removeIf(footprint -> footprint.owner.equals(player.getUUID()));
-                ServerPlayNetworking.send(player, new FootprintPacket(packedPos, toSync));
-            });
+    protected FootprintChunk createChunk(Level level, int chunkX, int chunkZ) {
+        return level.getChunk(chunkX, chunkZ).getAttachedOrCreate(GCAttachments.FOOTPRINTS);
+    }
+
+    @Override
+    public void addFootprint(Level level, double x, double y, double z, float rotation, int owner) {
+        super.addFootprint(level, x, y, z, rotation, owner);
+        level.getChunkAt(BlockPos.containing(x, y, z)).setUnsaved(true);
+    }
+
+    public void onChunkLoad(LevelChunk chunk) {
+        FootprintChunk footprints = chunk.getAttached(GCAttachments.FOOTPRINTS);
+        if (footprints != null && !footprints.isEmpty()) {
+            this.loadChunk(chunk.getPos().toLong(), footprints);
+        }
+    }
+
+    private static boolean ownsAny(FootprintChunk chunk, int from, int owner) {
+        for (int i = from; i < chunk.size(); i++) {
+            if (chunk.getOwner(i) == owner) return true;
         }
+        return false;
     }
 }
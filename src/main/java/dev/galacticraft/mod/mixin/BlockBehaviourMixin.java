@@ -22,14 +22,11 @@
 
 package dev.galacticraft.mod.mixin;
 
-import dev.galacticraft.mod.misc.footprint.Footprint;
 import dev.galacticraft.mod.misc.footprint.FootprintManager;
 import dev.galacticraft.mod.tag.GCTags;
-import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.GlobalPos;
 import net.minecraft.tags.TagKey;
-import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.state.BlockBehaviour;
@@ -40,9 +37,6 @@
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
-import java.util.ArrayList;
-import java.util.List;
-
 @Mixin(BlockBehaviour.BlockStateBase.class)
 public abstract class BlockBehaviourMixin {
     @Shadow
@@ -52,27 +46,7 @@ public abstract class BlockBehaviourMixin {
     private void handleFootprints(Level level, BlockPos pos, BlockState newState, boolean movedByPiston, CallbackInfo ci) {
         if (is(GCTags.FOOTPRINTS)) {
             FootprintManager footprintManager = level.galacticraft$getFootprintManager();
-            Long2ObjectMap<List<Footprint>> footprintChunkMap = footprintManager.getFootprints();
-
-            if (footprintChunkMap != null) {
-                long chunkKey = ChunkPos.asLong(pos);
-                List<Footprint> footprintList = footprintChunkMap.get(chunkKey);
-
-                if (footprintList != null && !footprintList.isEmpty()) {
-                    List<Footprint> toRemove = new ArrayList<>();
-
-                    for (Footprint footprint : footprintList) {
-                        if (footprint.position.x > pos.getX() && footprint.position.x < pos.getX() + 1 && footprint.position.z > pos.getZ() && footprint.position.z < pos.getZ() + 1) {
-                            toRemove.add(footprint);
-                        }
-                    }
-
-                    if (!toRemove.isEmpty()) {
-                        footprintList.removeAll(toRemove);
-                    }
-                }
-            }
-
+            footprintManager.removeFootprints(pos);
             footprintManager.footprintBlockChanges.add(GlobalPos.of(level.dimension(), pos));
         }
     }
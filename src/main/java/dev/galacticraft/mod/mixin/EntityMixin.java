@@ -27,7 +27,6 @@
 import dev.galacticraft.mod.misc.footprint.Footprint;
 import dev.galacticraft.mod.tag.GCTags;
 import net.minecraft.core.BlockPos;
-import net.minecraft.core.SectionPos;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.core.registries.Registries;
 import net.minecraft.sounds.SoundEvent;
@@ -40,7 +39,6 @@
 import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.entity.MoverType;
 import net.minecraft.world.entity.player.Player;
-import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.material.Fluid;
@@ -135,7 +133,7 @@ public abstract class EntityMixin implements EntityAccessor {
     public abstract float getYRot();
 
     @Shadow
-    public abstract UUID getUUID();
+    public abstract int getId();
 
     @Shadow
     @Final
@@ -230,8 +228,7 @@ private void tickFootprints(MoverType type, Vec3 motion, CallbackInfo ci) {
 
                     pos = Footprint.getFootprintPosition(level, getYRot() - 180, pos, position());
 
-                    long chunkKey = ChunkPos.asLong(SectionPos.blockToSectionCoord(pos.x), SectionPos.blockToSectionCoord(pos.z));
-                    level.galacticraft$getFootprintManager().addFootprint(chunkKey, new Footprint(level.dimensionTypeRegistration().unwrapKey().get().location(), pos, getYRot(), getUUID()));
+                    level.galacticraft$getFootprintManager().addFootprint(level, pos.x, pos.y, pos.z, getYRot(), getId());
 
                     // Increment and cap step counter at 1
                     galacticraft$setLastStep((galacticraft$getLastStep() + 1) % 2);
@@ -25,47 +25,76 @@
 import com.google.common.collect.ImmutableList;
 import dev.galacticraft.mod.accessor.LevelAccessor;
 import dev.galacticraft.mod.accessor.ServerLevelAccessor;
+import dev.galacticraft.mod.api.block.entity.AbstractSolarPanelBlockEntity;
+import dev.galacticraft.mod.api.wire.impl.WireNetworkImpl;
+import dev.galacticraft.mod.content.block.entity.machine.OxygenCollectorBlockEntity;
 import dev.galacticraft.mod.content.block.entity.machine.OxygenSealerBlockEntity;
 import dev.galacticraft.mod.misc.footprint.FootprintManager;
 import dev.galacticraft.mod.misc.footprint.ServerFootprintManager;
+import dev.galacticraft.mod.network.s2c.BubbleSizePayload;
+import dev.galacticraft.mod.world.ListenerIndex;
 import dev.galacticraft.mod.world.dimension.GCDimensions;
 import dev.galacticraft.mod.world.gen.spawner.EvolvedPillagerSpawner;
+import it.unimi.dsi.fastutil.floats.FloatArrayList;
+import it.unimi.dsi.fastutil.longs.Long2FloatMap;
+import it.unimi.dsi.fastutil.longs.Long2FloatOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongCollection;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceArrayList;
+import net.fabricmc.fabric.api.networking.v1.PlayerLookup;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Holder;
 import net.minecraft.core.RegistryAccess;
+import net.minecraft.core.SectionPos;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.server.level.progress.ChunkProgressListener;
 import net.minecraft.util.profiling.ProfilerFiller;
 import net.minecraft.world.RandomSequences;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.CustomSpawner;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.chunk.LevelChunk;
 import net.minecraft.world.level.dimension.DimensionType;
 import net.minecraft.world.level.dimension.LevelStem;
+import net.minecraft.world.level.levelgen.Heightmap;
 import net.minecraft.world.level.storage.LevelStorageSource;
 import net.minecraft.world.level.storage.ServerLevelData;
 import net.minecraft.world.level.storage.WritableLevelData;
+import net.minecraft.world.phys.shapes.VoxelShape;
 import org.jetbrains.annotations.Nullable;
 import org.spongepowered.asm.mixin.*;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
-import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Set;
 import java.util.concurrent.Executor;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 @Mixin(ServerLevel.class)
 public abstract class ServerLevelMixin extends Level implements LevelAccessor, ServerLevelAccessor {
     @Shadow @Final @Mutable private List<CustomSpawner> customSpawners;
-    private final @Unique Set<OxygenSealerBlockEntity> sealers = new HashSet<>();
+    private final @Unique ListenerIndex<OxygenSealerBlockEntity> sealerListeners = new ListenerIndex<>();
+    private final @Unique ListenerIndex<OxygenCollectorBlockEntity> collectorListeners = new ListenerIndex<>();
+    private final @Unique ListenerIndex<AbstractSolarPanelBlockEntity> solarPanelListeners = new ListenerIndex<>();
     private final @Unique FootprintManager footprintManager = new ServerFootprintManager();
+    private final @Unique Long2FloatMap pendingBubbleSizes = new Long2FloatOpenHashMap();
+    /**
+     * The number of oxygen sources currently providing each position.
+     */
+    private final @Unique Long2IntOpenHashMap oxygenReferences = new Long2IntOpenHashMap();
+    private final @Unique List<WireNetworkImpl> unsettledWireNetworks = new ReferenceArrayList<>();
 
     protected ServerLevelMixin(WritableLevelData levelData, ResourceKey<Level> dimension, RegistryAccess registryAccess, Holder<DimensionType> dimensionTypeRegistration, Supplier<ProfilerFiller> profiler, boolean isClientSide, boolean isDebug, long biomeZoomSeed, int maxChainedNeighborUpdates) {
         super(levelData, dimension, registryAccess, dimensionTypeRegistration, profiler, isClientSide, isDebug, biomeZoomSeed, maxChainedNeighborUpdates);
@@ -78,27 +107,119 @@ private void setSpawnersGC(MinecraftServer server, Executor workerExecutor, Leve
         }
     }
 
+    @Inject(method = "sendBlockUpdated", at = @At("HEAD"))
+    private void updateBlockChangeListeners_gc(BlockPos pos, BlockState oldState, BlockState newState, int flags, CallbackInfo ci) {
+        // runs before the early return for unchanged collision shapes, as plants and fluids have none
+        List<OxygenCollectorBlockEntity> collectors = this.collectorListeners.get(SectionPos.asLong(pos));
+        if (collectors != null) {
+            for (int i = 0; i < collectors.size(); i++) {
+                collectors.get(i).onBlockChanged(pos, oldState, newState);
+            }
+        }
+
+        Predicate<BlockState> motionBlocking = Heightmap.Types.MOTION_BLOCKING.isOpaque();
+        if (motionBlocking.test(oldState) != motionBlocking.test(newState)) {
+            List<AbstractSolarPanelBlockEntity> panels = this.solarPanelListeners.get(BlockPos.asLong(pos.getX(), 0, pos.getZ()));
+            // the heightmap has already been updated, so it only moved if the change is at (or just above) the new surface
+            if (panels != null && pos.getY() >= this.getHeight(Heightmap.Types.MOTION_BLOCKING, pos.getX(), pos.getZ()) - 1) {
+                for (int i = 0; i < panels.size(); i++) {
+                    panels.get(i).onSkyChanged();
+                }
+            }
+        }
+    }
+
     @Inject(method = "sendBlockUpdated", at = @At(value = "INVOKE", target = "Ljava/util/Set;iterator()Ljava/util/Iterator;", remap = false))
     private void updateSealerListeners_gc(BlockPos pos, BlockState oldState, BlockState newState, int flags, CallbackInfo ci) {
-        List<OxygenSealerBlockEntity> queueRemove = new LinkedList<>();
-        for (OxygenSealerBlockEntity sealer : this.sealers) {
-            if (sealer.isRemoved()) {
-                queueRemove.add(sealer);
-                assert false : "this shouldn't happen! Oxygen sealer was removed but nothing called #markRemoved";
+        List<OxygenSealerBlockEntity> sealers = this.sealerListeners.get(SectionPos.asLong(pos));
+        if (sealers != null) {
+            VoxelShape shape = newState.getCollisionShape(((Level)(Object) this), pos);
+            for (int i = 0; i < sealers.size(); i++) {
+                OxygenSealerBlockEntity sealer = sealers.get(i);
+                assert !sealer.isRemoved() : "this shouldn't happen! Oxygen sealer was removed but nothing called #markRemoved";
+                sealer.enqueueUpdate(pos, shape);
             }
-            sealer.enqueueUpdate(pos, newState.getCollisionShape(((Level)(Object) this), pos));
         }
-        this.sealers.removeAll(queueRemove);
     }
 
     @Override
-    public void addSealer(OxygenSealerBlockEntity sealer) {
-        this.sealers.add(sealer);
+    public void acquireOxygen(LongCollection positions) {
+        LongArrayList acquired = new LongArrayList();
+        for (LongIterator it = positions.iterator(); it.hasNext(); ) {
+            long pos = it.nextLong();
+            if (this.oxygenReferences.addTo(pos, 1) == 0) {
+                acquired.add(pos);
+            }
+        }
+        this.setBreathable(acquired, true);
+    }
+
+    @Override
+    public void releaseOxygen(LongCollection positions) {
+        LongArrayList released = new LongArrayList();
+        for (LongIterator it = positions.iterator(); it.hasNext(); ) {
+            long pos = it.nextLong();
+            int references = this.oxygenReferences.get(pos);
+            if (references > 1) {
+                this.oxygenReferences.put(pos, references - 1);
+            } else {
+                // positions without any reference were made breathable before this level was loaded
+                this.oxygenReferences.remove(pos);
+                released.add(pos);
+            }
+        }
+        this.setBreathable(released, false);
+    }
+
+    @Override
+    public boolean isOxygenHeld(long pos) {
+        return this.oxygenReferences.containsKey(pos);
+    }
+
+    @Override
+    public void setSealerSections(OxygenSealerBlockEntity sealer, LongSet sections) {
+        this.sealerListeners.set(sealer, sections);
+    }
+
+    @Override
+    public void setSolarPanelColumns(AbstractSolarPanelBlockEntity panel, LongSet columns) {
+        this.solarPanelListeners.set(panel, columns);
+    }
+
+    @Override
+    public void setCollectorSections(OxygenCollectorBlockEntity collector, LongSet sections) {
+        this.collectorListeners.set(collector, sections);
+    }
+
+    @Override
+    public void queueBubbleSize(BlockPos pos, float size) {
+        this.pendingBubbleSizes.put(pos.asLong(), size);
+    }
+
+    @Override
+    public void sendBubbleSizes() {
+        if (this.pendingBubbleSizes.isEmpty()) return;
+
+        Reference2ObjectMap<ServerPlayer, LongArrayList> positions = new Reference2ObjectOpenHashMap<>();
+        Reference2ObjectMap<ServerPlayer, FloatArrayList> sizes = new Reference2ObjectOpenHashMap<>();
+        for (Long2FloatMap.Entry entry : this.pendingBubbleSizes.long2FloatEntrySet()) {
+            long pos = entry.getLongKey();
+            ChunkPos chunk = new ChunkPos(SectionPos.blockToSectionCoord(BlockPos.getX(pos)), SectionPos.blockToSectionCoord(BlockPos.getZ(pos)));
+            for (ServerPlayer player : PlayerLookup.tracking((ServerLevel) (Object) this, chunk)) {
+                positions.computeIfAbsent(player, p -> new LongArrayList()).add(pos);
+                sizes.computeIfAbsent(player, p -> new FloatArrayList()).add(entry.getFloatValue());
+            }
+        }
+        this.pendingBubbleSizes.clear();
+
+        for (Reference2ObjectMap.Entry<ServerPlayer, LongArrayList> entry : positions.reference2ObjectEntrySet()) {
+            ServerPlayNetworking.send(entry.getKey(), new BubbleSizePayload(entry.getValue().toLongArray(), sizes.get(entry.getKey()).toFloatArray()));
+        }
     }
 
     @Override
-    public void removeSealer(OxygenSealerBlockEntity sealer) {
-        this.sealers.remove(sealer);
+    public List<WireNetworkImpl> getUnsettledWireNetworks() {
+        return this.unsettledWireNetworks;
     }
 
     @Inject(method = "tickChunk", at = @At("HEAD"))
@@ -26,6 +26,8 @@
 import dev.galacticraft.api.rocket.RocketData;
 import dev.galacticraft.mod.accessor.ServerPlayerAccessor;
 import dev.galacticraft.mod.content.block.special.CryogenicChamberBlock;
+import dev.galacticraft.mod.content.entity.ControllableEntity;
+import dev.galacticraft.mod.network.c2s.ControlEntityPayload;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.nbt.CompoundTag;
@@ -48,6 +50,8 @@ public abstract class ServerPlayerMixin extends LivingEntityMixin implements Ser
     private @Unique @Nullable RocketData rocketData = null;
     private @Unique boolean celestialActive = false;
     private @Unique boolean isRideTick = false;
+    private @Unique ControlEntityPayload controlInput = ControlEntityPayload.NONE;
+    private @Unique int controlInputTick;
 
     @Override
     public boolean galacticraft$isCelestialScreenActive() {
@@ -93,9 +97,24 @@ private void readCelestialData(CompoundTag nbt, CallbackInfo ci) {
         }
     }
 
+    @Override
+    public void galacticraft$setControlInput(ControlEntityPayload input) {
+        this.controlInput = input;
+        this.controlInputTick = this.tickCount;
+    }
+
     @Inject(method = "rideTick", at = @At("HEAD"))
     private void rideTickStart(CallbackInfo ci) {
         this.isRideTick = true;
+        if (this.getVehicle() instanceof ControllableEntity controllable) {
+            // a client that stopped sending keepalives must not keep driving its vehicle
+            if (this.tickCount - this.controlInputTick > ControlEntityPayload.TIMEOUT) {
+                this.controlInput = ControlEntityPayload.NONE;
+            }
+            this.controlInput.applyTo(controllable);
+        } else {
+            this.controlInput = ControlEntityPayload.NONE;
+        }
     }
 
     @Inject(method = "rideTick", at = @At("TAIL"))
@@ -22,12 +22,10 @@
 
 package dev.galacticraft.mod.mixin.client;
 
-import dev.galacticraft.api.universe.celestialbody.CelestialBody;
 import dev.galacticraft.mod.content.entity.orbital.RocketEntity;
 import dev.galacticraft.mod.content.item.RocketItem;
 import net.minecraft.client.model.HumanoidModel;
 import net.minecraft.client.model.geom.ModelPart;
-import net.minecraft.core.Holder;
 import net.minecraft.util.Mth;
 import net.minecraft.world.InteractionHand;
 import net.minecraft.world.entity.LivingEntity;
@@ -83,8 +81,7 @@ private void standInRocketGC(T livingEntity, float f, float g, float h, float i,
 
     @Inject(method = "setupAnim(Lnet/minecraft/world/entity/LivingEntity;FFFFF)V", at = @At("TAIL"))
     private void gc$modifyPlayerAnim(LivingEntity entity, float f, float g, float h, float i, float j, CallbackInfo ci) {
-        Holder<CelestialBody<?, ?>> holder = entity.level().galacticraft$getCelestialBody();
-        if (holder != null && holder.value().gravity() < 0.8) {
+        if (entity.level().galacticraft$getEnvironment().gravity() < 0.8) {
             float speedModifier = 0.1162F * 2;
 
             final float floatPI = 3.1415927F;
@@ -60,6 +60,13 @@ public abstract class LocalPlayerMixin extends AbstractClientPlayer {
     @Shadow
     public Input input;
 
+    @Unique
+    private ControlEntityPayload lastControlInput = null;
+    @Unique
+    private Entity lastControlledVehicle = null;
+    @Unique
+    private int controlInputAge = 0;
+
     public LocalPlayerMixin(ClientLevel clientLevel, GameProfile gameProfile) {
         super(clientLevel, gameProfile);
     }
@@ -70,9 +77,18 @@ private void gcRocketJumpCheck(CallbackInfo ci) {
         if (player.isPassenger()) {
             if (player.getVehicle() instanceof ControllableEntity controllable) {
                 controllable.inputTick(input.leftImpulse, input.forwardImpulse, input.up, input.down, input.left, input.right, input.jumping, input.shiftKeyDown);
-                ClientPlayNetworking.send(new ControlEntityPayload(input.leftImpulse, input.forwardImpulse, input.up, input.down, input.left, input.right, input.jumping, input.shiftKeyDown));
+                ControlEntityPayload payload = ControlEntityPayload.of(input.leftImpulse, input.forwardImpulse, input.up, input.down, input.left, input.right, input.jumping, input.shiftKeyDown);
+                if (!payload.equals(this.lastControlInput) || player.getVehicle() != this.lastControlledVehicle || ++this.controlInputAge >= ControlEntityPayload.KEEPALIVE_INTERVAL) {
+                    ClientPlayNetworking.send(payload);
+                    this.lastControlInput = payload;
+                    this.lastControlledVehicle = player.getVehicle();
+                    this.controlInputAge = 0;
+                }
+                return;
             }
         }
+        this.lastControlInput = null;
+        this.lastControlledVehicle = null;
     }
 
     @Inject(method = "isCrouching", at = @At("HEAD"), cancellable = true)
@@ -25,43 +25,74 @@
 import dev.galacticraft.impl.network.c2s.C2SPayload;
 import dev.galacticraft.mod.Constant;
 import dev.galacticraft.mod.content.entity.ControllableEntity;
-import dev.galacticraft.mod.util.StreamCodecs;
 import io.netty.buffer.ByteBuf;
 import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
 import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.util.Mth;
 import org.jetbrains.annotations.NotNull;
 
-public record ControlEntityPayload(float leftImpulse, float forwardImpulse, boolean up, boolean down, boolean left, boolean right, boolean jumping, boolean shiftKeyDown) implements C2SPayload {
-    public static final StreamCodec<ByteBuf, ControlEntityPayload> STREAM_CODEC = StreamCodecs.composite(
-            ByteBufCodecs.FLOAT,
+/**
+ * The movement input of a player controlling a {@link ControllableEntity}. Clients only send it when the input changes
+ * (and every {@link #KEEPALIVE_INTERVAL} ticks as a keepalive); the server keeps the last received input and applies it
+ * every tick, until no input has been received for {@link #TIMEOUT} ticks.
+ *
+ * @param leftImpulse the sideways impulse, scaled to {@code [-127, 127]}
+ * @param forwardImpulse the forward impulse, scaled to {@code [-127, 127]}
+ * @param keys the pressed keys, as a bitfield of {@link #UP}, {@link #DOWN}, {@link #LEFT}, {@link #RIGHT}, {@link #JUMPING} and {@link #SHIFT_KEY_DOWN}
+ */
+public record ControlEntityPayload(byte leftImpulse, byte forwardImpulse, byte keys) implements C2SPayload {
+    public static final int UP = 1;
+    public static final int DOWN = 1 << 1;
+    public static final int LEFT = 1 << 2;
+    public static final int RIGHT = 1 << 3;
+    public static final int JUMPING = 1 << 4;
+    public static final int SHIFT_KEY_DOWN = 1 << 5;
+    public static final ControlEntityPayload NONE = new ControlEntityPayload((byte) 0, (byte) 0, (byte) 0);
+    /**
+     * How often (in ticks) an unchanged input is sent again.
+     */
+    public static final int KEEPALIVE_INTERVAL = 20;
+    /**
+     * How long (in ticks) the server keeps applying the last input without receiving a new one.
+     */
+    public static final int TIMEOUT = KEEPALIVE_INTERVAL * 2;
+
+    public static final StreamCodec<ByteBuf, ControlEntityPayload> STREAM_CODEC = StreamCodec.composite(
+            ByteBufCodecs.BYTE,
             p -> p.leftImpulse,
-            ByteBufCodecs.FLOAT,
+            ByteBufCodecs.BYTE,
             p -> p.forwardImpulse,
-            ByteBufCodecs.BOOL,
-            p -> p.up,
-            ByteBufCodecs.BOOL,
-            p -> p.down,
-            ByteBufCodecs.BOOL,
-            p -> p.left,
-            ByteBufCodecs.BOOL,
-            p -> p.right,
-            ByteBufCodecs.BOOL,
-            p -> p.jumping,
-            ByteBufCodecs.BOOL,
-            p -> p.shiftKeyDown,
+            ByteBufCodecs.BYTE,
+            p -> p.keys,
             ControlEntityPayload::new
     );
     public static final ResourceLocation ID = Constant.id("control_entity");
     public static final CustomPacketPayload.Type<ControlEntityPayload> TYPE = new CustomPacketPayload.Type<>(ID);
 
+    public static ControlEntityPayload of(float leftImpulse, float forwardImpulse, boolean up, boolean down, boolean left, boolean right, boolean jumping, boolean shiftKeyDown) {
+        return new ControlEntityPayload(quantize(leftImpulse), quantize(forwardImpulse), (byte) ((up ? UP : 0)
+                | (down ? DOWN : 0)
+                | (left ? LEFT : 0)
+                | (right ? RIGHT : 0)
+                | (jumping ? JUMPING : 0)
+                | (shiftKeyDown ? SHIFT_KEY_DOWN : 0)));
+    }
+
+    private static byte quantize(float impulse) {
+        return (byte) Math.round(Mth.clamp(impulse, -1.0F, 1.0F) * 127.0F);
+    }
+
+    public void applyTo(ControllableEntity controllable) {
+        controllable.inputTick(this.leftImpulse / 127.0F, this.forwardImpulse / 127.0F, (this.keys & UP) != 0, (this.keys & DOWN) != 0,
+                (this.keys & LEFT) != 0, (this.keys & RIGHT) != 0, (this.keys & JUMPING) != 0, (this.keys & SHIFT_KEY_DOWN) != 0);
+    }
+
     @Override
     public void handle(ServerPlayNetworking.@NotNull Context context) {
-        if (context.player().isPassenger() && context.player().getVehicle() instanceof ControllableEntity controllable) {
-            controllable.inputTick(leftImpulse(), forwardImpulse(), up(), down(), left(), right(), jumping(), shiftKeyDown());
-        }
+        context.player().galacticraft$setControlInput(this);
     }
 
     @Override
@@ -25,24 +25,30 @@
 import dev.galacticraft.impl.network.s2c.S2CPayload;
 import dev.galacticraft.mod.Constant;
 import dev.galacticraft.mod.content.block.entity.machine.OxygenBubbleDistributorBlockEntity;
+import dev.galacticraft.mod.util.StreamCodecs;
 import io.netty.buffer.ByteBuf;
 import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking;
 import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.SectionPos;
-import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import org.jetbrains.annotations.NotNull;
 
-public record BubbleSizePayload(BlockPos pos, double size) implements S2CPayload {
+/**
+ * The sizes of all oxygen bubbles in chunks tracked by a player that changed since the last sync.
+ *
+ * @param positions the packed positions of the distributors (see {@link BlockPos#asLong()})
+ * @param sizes the new bubble size of each distributor
+ */
+public record BubbleSizePayload(long[] positions, float[] sizes) implements S2CPayload {
     public static final StreamCodec<ByteBuf, BubbleSizePayload> STREAM_CODEC = StreamCodec.composite(
-            BlockPos.STREAM_CODEC,
-            p -> p.pos,
-            ByteBufCodecs.DOUBLE,
-            p -> p.size,
+            StreamCodecs.LONG_ARRAY,
+            p -> p.positions,
+            StreamCodecs.FLOAT_ARRAY,
+            p -> p.sizes,
             BubbleSizePayload::new
     );
 
@@ -50,8 +56,13 @@ public record BubbleSizePayload(BlockPos pos, double size) implements S2CPayload
     public static final CustomPacketPayload.Type<BubbleSizePayload> TYPE = new CustomPacketPayload.Type<>(ID);
 
     public BubbleSizePayload {
-        if (size < 0) {
-            throw new IllegalArgumentException("Size cannot be negative");
+        if (positions.length != sizes.length) {
+            throw new IllegalArgumentException("Expected " + positions.length + " sizes, got " + sizes.length);
+        }
+        for (float size : sizes) {
+            if (size < 0) {
+                throw new IllegalArgumentException("Size cannot be negative");
+            }
         }
     }
 
@@ -59,10 +70,15 @@ public record BubbleSizePayload(BlockPos pos, double size) implements S2CPayload
     public Runnable handle(@NotNull ClientPlayNetworking.Context context) {
         return () -> {
             ClientLevel level = context.client().level;
-            if (level != null && level.hasChunk(SectionPos.blockToSectionCoord(this.pos().getX()), SectionPos.blockToSectionCoord(this.pos().getZ()))) {
-                BlockEntity entity = level.getBlockEntity(this.pos());
-                if (entity instanceof OxygenBubbleDistributorBlockEntity machine) {
-                    machine.setSize(this.size());
+            if (level == null) return;
+            BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+            for (int i = 0; i < this.positions.length; i++) {
+                pos.set(this.positions[i]);
+                if (level.hasChunk(SectionPos.blockToSectionCoord(pos.getX()), SectionPos.blockToSectionCoord(pos.getZ()))) {
+                    BlockEntity entity = level.getBlockEntity(pos);
+                    if (entity instanceof OxygenBubbleDistributorBlockEntity machine) {
+                        machine.receiveSize(this.sizes[i], level.getGameTime());
+                    }
                 }
             }
         };
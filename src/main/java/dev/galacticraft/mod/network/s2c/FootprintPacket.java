@@ -24,8 +24,7 @@
 
 import dev.galacticraft.impl.network.s2c.S2CPayload;
 import dev.galacticraft.mod.Constant;
-import dev.galacticraft.mod.client.render.FootprintRenderer;
-import dev.galacticraft.mod.misc.footprint.Footprint;
+import dev.galacticraft.mod.misc.footprint.FootprintChunk;
 import dev.galacticraft.mod.util.StreamCodecs;
 import io.netty.buffer.ByteBuf;
 import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking;
@@ -35,13 +34,18 @@
 import net.minecraft.resources.ResourceLocation;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.List;
-
-public record FootprintPacket(long chunk, List<Footprint> footprints) implements S2CPayload {
+/**
+ * Footprints of a single chunk, packed with {@link FootprintChunk#pack(float, float, float, float, short)}.
+ *
+ * @param replace whether the footprints replace the chunk's footprints on the client, or are appended to them
+ */
+public record FootprintPacket(long chunk, boolean replace, long[] footprints) implements S2CPayload {
     public static final StreamCodec<ByteBuf, FootprintPacket> STREAM_CODEC = StreamCodec.composite(
             StreamCodecs.LONG,
             p -> p.chunk,
-            ByteBufCodecs.<ByteBuf, Footprint>list().apply(Footprint.STREAM_CODEC),
+            ByteBufCodecs.BOOL,
+            p -> p.replace,
+            StreamCodecs.LONG_ARRAY,
             p -> p.footprints,
             FootprintPacket::new
     );
@@ -50,7 +54,7 @@ public record FootprintPacket(long chunk, List<Footprint> footprints) implements
 
     @Override
     public Runnable handle(ClientPlayNetworking.@NotNull Context context) {
-        return () -> FootprintRenderer.setFootprints(this.chunk, this.footprints);
+        return () -> context.player().level().galacticraft$getFootprintManager().receiveFootprints(context.player().level(), this.chunk, this.replace, this.footprints);
     }
 
     @Override
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2019-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.galacticraft.mod.structure.dungeon;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Buckets the bounding boxes of a dungeon layout into a horizontal grid, so that intersection checks only visit the
+ * boxes near the tested bounds instead of every piece placed so far.
+ */
+final class BoundingBoxIndex {
+    private static final int CELL_SHIFT = 5;
+
+    private final List<BoundingBox> boxes = new ArrayList<>();
+    private final Long2ObjectMap<IntList> cells = new Long2ObjectOpenHashMap<>();
+
+    public void add(BoundingBox box) {
+        int index = this.boxes.size();
+        this.boxes.add(box);
+        for (int x = box.minX() >> CELL_SHIFT; x <= box.maxX() >> CELL_SHIFT; x++) {
+            for (int z = box.minZ() >> CELL_SHIFT; z <= box.maxZ() >> CELL_SHIFT; z++) {
+                this.cells.computeIfAbsent(ChunkPos.asLong(x, z), k -> new IntArrayList(2)).add(index);
+            }
+        }
+    }
+
+    /**
+     * Tests whether the given bounds intersect any indexed box, except for the most recently added one (which the
+     * tested bounds are usually attached to).
+     *
+     * @param bounds the bounds to test
+     * @return whether the bounds intersect a previously placed box
+     */
+    public boolean intersectsAnyButLast(BoundingBox bounds) {
+        int last = this.boxes.size() - 1;
+        for (int x = bounds.minX() >> CELL_SHIFT; x <= bounds.maxX() >> CELL_SHIFT; x++) {
+            for (int z = bounds.minZ() >> CELL_SHIFT; z <= bounds.maxZ() >> CELL_SHIFT; z++) {
+                IntList indices = this.cells.get(ChunkPos.asLong(x, z));
+                if (indices == null) continue;
+                for (int i = 0; i < indices.size(); i++) {
+                    int index = indices.getInt(i);
+                    if (index != last && this.boxes.get(index).intersects(bounds)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    public void clear() {
+        this.boxes.clear();
+        this.cells.clear();
+    }
+}
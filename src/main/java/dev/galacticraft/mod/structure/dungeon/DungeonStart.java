@@ -36,7 +36,7 @@
 public class DungeonStart extends EntranceCrater {
 
     public List<StructurePiece> attachedComponents = Lists.newArrayList();
-    public List<BoundingBox> componentBounds = Lists.newArrayList();
+    private final BoundingBoxIndex componentBounds = new BoundingBoxIndex();
 
     public DungeonStart(CompoundTag tag) {
         super(GCStructurePieceTypes.DUNGEON_START, tag);
@@ -48,6 +48,7 @@ public DungeonStart(DungeonConfiguration configuration, RandomSource rand, int b
 
     @Override
     public void addChildren(StructurePiece componentIn, StructurePieceAccessor listIn, RandomSource rand) {
+        long startTime = System.nanoTime();
         boolean validAttempt = false;
         final int maxAttempts = 10;
         int attempts = 0;
@@ -55,11 +56,8 @@ public void addChildren(StructurePiece componentIn, StructurePieceAccessor listI
             attachedComponents.clear();
             componentBounds.clear();
             componentBounds.add(this.boundingBox);
-//            listIn.clear();
-            listIn.addPiece(this);
             DungeonPiece next = getNextPiece(this, rand);
             while (next != null) {
-                listIn.addPiece(next);
                 attachedComponents.add(next);
                 componentBounds.add(next.getBoundingBox());
 
@@ -72,25 +70,23 @@ public void addChildren(StructurePiece componentIn, StructurePieceAccessor listI
             attempts++;
         }
 
-        Constant.LOGGER.debug("Dungeon generation took " + attempts + " attempt(s)");
+        // only the pieces of the final attempt are kept, the start piece has already been added by the structure
+        for (StructurePiece piece : attachedComponents) {
+            listIn.addPiece(piece);
+        }
+
+        int xPos = this.boundingBox.minX() + (this.boundingBox.maxX() - this.boundingBox.minX()) / 2;
+        int zPos = this.boundingBox.minZ() + (this.boundingBox.maxZ() - this.boundingBox.minZ()) / 2;
+        Constant.LOGGER.debug("Dungeon layout at ({}, {}) took {} attempt(s), {} pieces and {}us", xPos, zPos, attempts, attachedComponents.size(), (System.nanoTime() - startTime) / 1000);
 
         if (!validAttempt) {
-            int xPos = this.boundingBox.minX() + (this.boundingBox.maxX() - this.boundingBox.minX()) / 2;
-            int zPos = this.boundingBox.minZ() + (this.boundingBox.maxZ() - this.boundingBox.minZ()) / 2;
-            System.err.println("Could not find valid dungeon layout! This is a bug, please report it, including your world seed (/seed) and dungeon location (" + xPos + ", " + zPos + ")");
+            Constant.LOGGER.warn("Could not find valid dungeon layout! This is a bug, please report it, including your world seed (/seed) and dungeon location ({}, {})", xPos, zPos);
         }
 
         super.addChildren(componentIn, listIn, rand);
     }
 
     public boolean checkIntersection(BoundingBox bounds) {
-        for (int i = 0; i < componentBounds.size() - 1; ++i) {
-            BoundingBox boundingBox = componentBounds.get(i);
-            if (boundingBox.intersects(bounds)) {
-                return true;
-            }
-        }
-
-        return false;
+        return componentBounds.intersectsAnyButLast(bounds);
     }
 }
@@ -22,7 +22,6 @@
 
 package dev.galacticraft.mod.util;
 
-import dev.galacticraft.mod.api.block.entity.Connected;
 import net.minecraft.core.Direction;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.Mirror;
@@ -30,7 +29,6 @@
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.properties.BlockStateProperties;
 import net.minecraft.world.level.block.state.properties.BooleanProperty;
-import net.minecraft.world.phys.shapes.BooleanOp;
 import net.minecraft.world.phys.shapes.Shapes;
 import net.minecraft.world.phys.shapes.VoxelShape;
 
@@ -49,55 +47,6 @@ public static BooleanProperty getBooleanProperty(Direction dir) {
         };
     }
 
-    public static VoxelShape getVoxelShape(BlockState blockState, VoxelShape north, VoxelShape south, VoxelShape east, VoxelShape west, VoxelShape up, VoxelShape down, VoxelShape none) {
-        VoxelShape shape = none;
-
-        if (blockState.getValue(BlockStateProperties.NORTH)) {
-            shape = Shapes.join(shape, north, BooleanOp.OR);
-        }
-        if (blockState.getValue(BlockStateProperties.SOUTH)) {
-            shape = Shapes.join(shape, south, BooleanOp.OR);
-        }
-        if (blockState.getValue(BlockStateProperties.EAST)) {
-            shape = Shapes.join(shape, east, BooleanOp.OR);
-        }
-        if (blockState.getValue(BlockStateProperties.WEST)) {
-            shape = Shapes.join(shape, west, BooleanOp.OR);
-        }
-        if (blockState.getValue(BlockStateProperties.UP)) {
-            shape = Shapes.join(shape, up, BooleanOp.OR);
-        }
-        if (blockState.getValue(BlockStateProperties.DOWN)) {
-            shape = Shapes.join(shape, down, BooleanOp.OR);
-        }
-        return shape;
-    }
-
-    public static VoxelShape getVoxelShape(Connected connected, VoxelShape north, VoxelShape south, VoxelShape east, VoxelShape west, VoxelShape up, VoxelShape down, VoxelShape none) {
-        VoxelShape shape = none;
-
-        final boolean[] connections = connected.getConnections();
-        if (connections[2]) {
-            shape = Shapes.join(shape, north, BooleanOp.OR);
-        }
-        if (connections[3]) {
-            shape = Shapes.join(shape, south, BooleanOp.OR);
-        }
-        if (connections[5]) {
-            shape = Shapes.join(shape, east, BooleanOp.OR);
-        }
-        if (connections[4]) {
-            shape = Shapes.join(shape, west, BooleanOp.OR);
-        }
-        if (connections[1]) {
-            shape = Shapes.join(shape, up, BooleanOp.OR);
-        }
-        if (connections[0]) {
-            shape = Shapes.join(shape, down, BooleanOp.OR);
-        }
-        return shape;
-    }
-
     public static VoxelShape createWalkwayShape(Direction facing) {
         return switch (facing) {
             case UP -> Shapes.or(
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2019-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.galacticraft.mod.util;
+
+import dev.galacticraft.mod.Constant;
+import dev.galacticraft.mod.api.block.entity.Connected;
+import net.minecraft.core.Direction;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.shapes.Shapes;
+import net.minecraft.world.phys.shapes.VoxelShape;
+
+/**
+ * Precomputed shapes for every combination of connections of a connecting block.
+ * Shapes are indexed by a 6-bit mask where bit {@code n} is set if the block connects in the direction with ordinal {@code n}.
+ * Walkway caches additionally hold one set of shapes per facing direction.
+ */
+public final class ConnectionShapeCache {
+    public static final int COMBINATIONS = 1 << 6;
+
+    private final VoxelShape[] shapes;
+
+    private ConnectionShapeCache(VoxelShape[] shapes) {
+        this.shapes = shapes;
+    }
+
+    /**
+     * Creates a cache for a block without a facing.
+     *
+     * @param none the shape of the block when it has no connections
+     */
+    public static ConnectionShapeCache of(VoxelShape none, VoxelShape north, VoxelShape south, VoxelShape east, VoxelShape west, VoxelShape up, VoxelShape down) {
+        VoxelShape[] arms = arms(north, south, east, west, up, down);
+        VoxelShape[] shapes = new VoxelShape[COMBINATIONS];
+        fill(shapes, 0, none, arms);
+        return new ConnectionShapeCache(shapes);
+    }
+
+    /**
+     * Creates a cache for a walkway, using {@link ConnectingBlockUtil#createWalkwayShape(Direction)} as the base shape for each facing.
+     */
+    public static ConnectionShapeCache walkway(VoxelShape north, VoxelShape south, VoxelShape east, VoxelShape west, VoxelShape up, VoxelShape down) {
+        VoxelShape[] arms = arms(north, south, east, west, up, down);
+        VoxelShape[] shapes = new VoxelShape[Constant.Misc.DIRECTIONS.length * COMBINATIONS];
+        for (Direction facing : Constant.Misc.DIRECTIONS) {
+            fill(shapes, facing.ordinal() * COMBINATIONS, ConnectingBlockUtil.createWalkwayShape(facing), arms);
+        }
+        return new ConnectionShapeCache(shapes);
+    }
+
+    private static VoxelShape[] arms(VoxelShape north, VoxelShape south, VoxelShape east, VoxelShape west, VoxelShape up, VoxelShape down) {
+        VoxelShape[] arms = new VoxelShape[6];
+        arms[Direction.DOWN.ordinal()] = down;
+        arms[Direction.UP.ordinal()] = up;
+        arms[Direction.NORTH.ordinal()] = north;
+        arms[Direction.SOUTH.ordinal()] = south;
+        arms[Direction.WEST.ordinal()] = west;
+        arms[Direction.EAST.ordinal()] = east;
+        return arms;
+    }
+
+    private static void fill(VoxelShape[] shapes, int offset, VoxelShape base, VoxelShape[] arms) {
+        for (int mask = 0; mask < COMBINATIONS; mask++) {
+            VoxelShape shape = base;
+            for (int i = 0; i < arms.length; i++) {
+                if ((mask & (1 << i)) != 0) {
+                    shape = Shapes.or(shape, arms[i]);
+                }
+            }
+            shapes[offset + mask] = shape.optimize();
+        }
+    }
+
+    public static int getMask(boolean[] connections) {
+        int mask = 0;
+        for (int i = 0; i < 6; i++) {
+            if (connections[i]) mask |= 1 << i;
+        }
+        return mask;
+    }
+
+    public static int getMask(BlockState state) {
+        int mask = 0;
+        for (Direction direction : Constant.Misc.DIRECTIONS) {
+            if (state.getValue(ConnectingBlockUtil.getBooleanProperty(direction))) mask |= 1 << direction.ordinal();
+        }
+        return mask;
+    }
+
+    public VoxelShape get(int mask) {
+        return this.shapes[mask];
+    }
+
+    public VoxelShape get(Connected connected) {
+        return this.shapes[getMask(connected.getConnections())];
+    }
+
+    public VoxelShape get(BlockState state) {
+        return this.shapes[getMask(state)];
+    }
+
+    public VoxelShape get(Direction facing, Connected connected) {
+        return this.shapes[facing.ordinal() * COMBINATIONS + getMask(connected.getConnections())];
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2019-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.mod.util;
+
+import dev.galacticraft.mod.Constant;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongToIntFunction;
+
+public class NetworkUtil {
+    private NetworkUtil() {}
+
+    /**
+     * Determines which parts of a network became disconnected after a node was removed.
+     * One breadth-first search is started from each former neighbour of the removed node and the searches are advanced
+     * in lockstep. Searches that meet are merged, and a search that runs out of nodes has found a complete, detached
+     * component. The search stops as soon as a single search remains, so the (usually largest) remaining component
+     * is never walked in full.
+     *
+     * @param starts the (packed) positions adjacent to the removed node
+     * @param links returns the 6-bit connection mask (indexed by {@link Direction#get3DDataValue()}) of a packed position
+     * @return the packed positions of every component that must be split off into a new network
+     */
+    public static List<LongArrayList> findDetachedComponents(long[] starts, LongToIntFunction links) {
+        int count = starts.length;
+        Long2IntOpenHashMap owner = new Long2IntOpenHashMap();
+        owner.defaultReturnValue(-1);
+        int[] parent = new int[count];
+        LongArrayFIFOQueue[] frontiers = new LongArrayFIFOQueue[count];
+        LongArrayList[] visited = new LongArrayList[count];
+        boolean[] active = new boolean[count];
+        int remaining = 0;
+
+        for (int i = 0; i < count; i++) {
+            parent[i] = i;
+            int existing = owner.putIfAbsent(starts[i], i);
+            if (existing != -1) {
+                parent[i] = existing;
+                continue;
+            }
+            frontiers[i] = new LongArrayFIFOQueue();
+            frontiers[i].enqueue(starts[i]);
+            visited[i] = new LongArrayList();
+            visited[i].add(starts[i]);
+            active[i] = true;
+            remaining++;
+        }
+
+        List<LongArrayList> detached = new ArrayList<>();
+        while (remaining > 1) {
+            for (int search = 0; search < count && remaining > 1; search++) {
+                if (!active[search]) continue;
+
+                LongArrayFIFOQueue frontier = frontiers[search];
+                if (frontier.isEmpty()) {
+                    active[search] = false;
+                    remaining--;
+                    detached.add(visited[search]);
+                    continue;
+                }
+
+                long pos = frontier.dequeueLong();
+                int mask = links.applyAsInt(pos);
+                for (Direction direction : Constant.Misc.DIRECTIONS) {
+                    if ((mask & (1 << direction.get3DDataValue())) == 0) continue;
+
+                    long adjacent = BlockPos.offset(pos, direction);
+                    int other = owner.get(adjacent);
+                    if (other == -1) {
+                        owner.put(adjacent, search);
+                        frontier.enqueue(adjacent);
+                        visited[search].add(adjacent);
+                    } else {
+                        other = find(parent, other);
+                        if (other != search) {
+                            // the two searches are exploring the same component - fold the other one into this search
+                            parent[other] = search;
+                            active[other] = false;
+                            remaining--;
+                            LongArrayFIFOQueue otherFrontier = frontiers[other];
+                            while (!otherFrontier.isEmpty()) {
+                                frontier.enqueue(otherFrontier.dequeueLong());
+                            }
+                            visited[search].addAll(visited[other]);
+                        }
+                    }
+                }
+            }
+        }
+        return detached;
+    }
+
+    private static int find(int[] parent, int i) {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]];
+            i = parent[i];
+        }
+        return i;
+    }
+}
@@ -26,6 +26,7 @@
 import com.mojang.datafixers.util.*;
 import com.mojang.serialization.Codec;
 import io.netty.buffer.ByteBuf;
+import io.netty.handler.codec.DecoderException;
 import net.minecraft.core.Holder;
 import net.minecraft.core.Registry;
 import net.minecraft.nbt.CompoundTag;
@@ -34,6 +35,7 @@
 import net.minecraft.network.VarInt;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.item.EitherHolder;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -48,6 +50,38 @@ public interface StreamCodecs {
             ByteBuf::readLong
     );
 
+    StreamCodec<ByteBuf, long[]> LONG_ARRAY = StreamCodec.of(
+            (b, v) -> {
+                VarInt.write(b, v.length);
+                for (long l : v) {
+                    b.writeLong(l);
+                }
+            },
+            b -> {
+                long[] v = new long[VarInt.read(b)];
+                for (int i = 0; i < v.length; i++) {
+                    v[i] = b.readLong();
+                }
+                return v;
+            }
+    );
+
+    StreamCodec<ByteBuf, float[]> FLOAT_ARRAY = StreamCodec.of(
+            (b, v) -> {
+                VarInt.write(b, v.length);
+                for (float f : v) {
+                    b.writeFloat(f);
+                }
+            },
+            b -> {
+                float[] v = new float[VarInt.read(b)];
+                for (int i = 0; i < v.length; i++) {
+                    v[i] = b.readFloat();
+                }
+                return v;
+            }
+    );
+
     static <B extends RegistryFriendlyByteBuf, V> StreamCodec<B, V> ofRegistryEntry(ResourceKey<Registry<V>> registry) {
         return StreamCodec.of(
                 (b, v) -> b.writeResourceLocation(b.registryAccess().registryOrThrow(registry).getKey(v)),
@@ -76,6 +110,30 @@ static <B extends RegistryFriendlyByteBuf, V> StreamCodec<B, Holder<V>> ofHolder
         );
     }
 
+    /**
+     * Writes the network id of registered values, and only falls back to the full key for values that are not (yet)
+     * registered.
+     */
+    static <B extends RegistryFriendlyByteBuf, V> StreamCodec<B, EitherHolder<V>> ofEitherHolder(ResourceKey<Registry<V>> registry) {
+        return StreamCodec.of(
+                (b, v) -> {
+                    Registry<V> values = b.registryAccess().registryOrThrow(registry);
+                    int id = v.holder().filter(holder -> holder.canSerializeIn(values.holderOwner())).map(holder -> values.getId(holder.value())).orElse(-1);
+                    VarInt.write(b, id + 1);
+                    if (id == -1) {
+                        b.writeResourceLocation(v.key().location());
+                    }
+                },
+                b -> {
+                    int id = VarInt.read(b) - 1;
+                    if (id == -1) {
+                        return new EitherHolder<>(ResourceKey.create(registry, b.readResourceLocation()));
+                    }
+                    return new EitherHolder<>(b.registryAccess().registryOrThrow(registry).getHolder(id).orElseThrow(() -> new DecoderException("Unknown " + registry.location() + " id " + id)));
+                }
+        );
+    }
+
     static <B extends RegistryFriendlyByteBuf, V> StreamCodec<B, Holder.Reference<V>> ofReference(ResourceKey<Registry<V>> registry) {
         return StreamCodec.of(
                 (b, v) -> b.writeResourceKey(v.key()),
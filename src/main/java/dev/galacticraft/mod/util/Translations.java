@@ -117,6 +117,14 @@ interface Config {
 
         String COMMANDS = "config.galacticraft.commands";
         String ENABLE_GC_HOUSTON = "config.galacticraft.commands.enable_gc_houston";
+
+        String PERFORMANCE = "config.galacticraft.performance";
+        String OXYGEN = "config.galacticraft.performance.oxygen";
+        String OXYGEN_SYNC_INTERVAL = "config.galacticraft.performance.oxygen.sync_interval";
+        String OXYGEN_SYNC_INTERVAL_DESC = "config.galacticraft.performance.oxygen.sync_interval.desc";
+        String SATELLITES = "config.galacticraft.performance.satellites";
+        String SATELLITE_UNLOAD_DELAY = "config.galacticraft.performance.satellites.unload_delay";
+        String SATELLITE_UNLOAD_DELAY_DESC = "config.galacticraft.performance.satellites.unload_delay.desc";
     }
 
     interface Galaxy {
@@ -236,6 +244,7 @@ interface MachineStatus {
         String ALREADY_SEALED = "ui.galacticraft.status.already_sealed";
         String AREA_TOO_LARGE = "ui.galacticraft.status.area_too_large";
         String BLOCKED = "ui.galacticraft.status.blocked";
+        String CHECKING_SEAL = "ui.galacticraft.status.checking_seal";
         String COLLECTING = "ui.galacticraft.status.collecting";
         String COMPRESSING = "ui.galacticraft.status.compressing";
         String COOLING_DOWN = "ui.galacticraft.status.cooling_down";
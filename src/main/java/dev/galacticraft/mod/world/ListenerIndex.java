@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2019-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.mod.world;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceArrayList;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maps packed positions (such as chunk sections or block columns) to the listeners interested in changes at them.
+ *
+ * @param <T> the type of listener
+ */
+public class ListenerIndex<T> {
+    private final Long2ObjectMap<List<T>> byKey = new Long2ObjectOpenHashMap<>();
+    private final Map<T, LongSet> keys = new Reference2ObjectOpenHashMap<>();
+
+    /**
+     * {@return the listeners of the given key, or {@code null} if there are none}
+     *
+     * @param key the packed position
+     */
+    public @Nullable List<T> get(long key) {
+        return this.byKey.get(key);
+    }
+
+    /**
+     * Sets the keys a listener is interested in, replacing any previous keys.
+     * The index keeps a reference to the given set, so it must not be modified afterwards.
+     *
+     * @param listener the listener
+     * @param keys the packed positions, or an empty set to remove the listener
+     */
+    public void set(@NotNull T listener, @NotNull LongSet keys) {
+        if (keys.isEmpty()) {
+            this.remove(listener);
+            return;
+        }
+
+        LongSet previous = this.keys.put(listener, keys);
+        if (previous != null) {
+            for (LongIterator it = previous.iterator(); it.hasNext(); ) {
+                long key = it.nextLong();
+                if (!keys.contains(key)) this.unlink(key, listener);
+            }
+        }
+        for (LongIterator it = keys.iterator(); it.hasNext(); ) {
+            long key = it.nextLong();
+            if (previous == null || !previous.contains(key)) {
+                this.byKey.computeIfAbsent(key, k -> new ReferenceArrayList<>(1)).add(listener);
+            }
+        }
+    }
+
+    public void remove(@NotNull T listener) {
+        LongSet previous = this.keys.remove(listener);
+        if (previous != null) {
+            for (LongIterator it = previous.iterator(); it.hasNext(); ) {
+                this.unlink(it.nextLong(), listener);
+            }
+        }
+    }
+
+    private void unlink(long key, T listener) {
+        List<T> listeners = this.byKey.get(key);
+        listeners.remove(listener);
+        if (listeners.isEmpty()) this.byKey.remove(key);
+    }
+}
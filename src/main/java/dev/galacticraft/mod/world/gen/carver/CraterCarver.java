@@ -38,68 +38,71 @@
 import net.minecraft.world.level.levelgen.carver.CarvingContext;
 import net.minecraft.world.level.levelgen.carver.WorldCarver;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.function.Function;
 
 public class CraterCarver extends WorldCarver<CraterCarverConfig> {
+    /**
+     * Craters never reach further than this many blocks from their center.
+     */
+    private static final int MAX_REACH = 31;
+    private static final int DEPTH_TABLE_CACHE_SIZE = 1024;
+
+    // every crater is carved into each chunk around its start chunk, so keep the depth tables of recent craters around
+    private final Map<Crater, byte[]> depthTables = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75F, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Crater, byte[]> eldest) {
+            return this.size() > DEPTH_TABLE_CACHE_SIZE;
+        }
+    });
+
     public CraterCarver(Codec<CraterCarverConfig> configCodec) {
         super(configCodec);
     }
 
     @Override
     public boolean carve(CarvingContext context, CraterCarverConfig config, ChunkAccess chunk, Function<BlockPos, Holder<Biome>> posToBiome, RandomSource random, Aquifer aquiferSampler, ChunkPos pos, CarvingMask carvingMask) {
-        int y = config.y.sample(random, context);
         //pos = center chunk pos
-        BlockPos craterCenter = pos.getBlockAt(random.nextInt(16), y, random.nextInt(16));
+        Crater crater = Crater.create(context, config, random, pos);
+        ChunkPos chunkPos = chunk.getPos();
+        int reach = crater.reach();
+        int minX = Math.max(crater.x() - reach, chunkPos.getMinBlockX());
+        int maxX = Math.min(crater.x() + reach, chunkPos.getMaxBlockX());
+        int minZ = Math.max(crater.z() - reach, chunkPos.getMinBlockZ());
+        int maxZ = Math.min(crater.z() + reach, chunkPos.getMaxBlockZ());
+        if (minX > maxX || minZ > maxZ) {
+            return false; // the crater does not reach this chunk
+        }
 
         if (!chunk.getReferencesForStructure(context.registryAccess().registryOrThrow(Registries.STRUCTURE).getOrThrow(GCStructures.Moon.VILLAGE)).isEmpty()) {
             return false;
         }
 
-        BlockPos.MutableBlockPos mutable = craterCenter.mutable();
-
-        double radius = 8 + (random.nextDouble() * (config.maxRadius - config.minRadius));
-        if (random.nextBoolean() && radius < (config.minRadius + config.idealRangeOffset) || radius > (config.maxRadius - config.idealRangeOffset))
-            radius = 8 + (random.nextDouble() * (config.maxRadius - config.minRadius));
-        double depthMultiplier = 1 - ((random.nextDouble() - 0.5) * 0.3);
-        boolean fresh = random.nextInt(16) == 1;
-        for (int innerChunkX = 0; innerChunkX < 16; innerChunkX++) { //iterate through positions in chunk
-            for (int innerChunkZ = 0; innerChunkZ < 16; innerChunkZ++) {
-                double toDig = 0;
-
-                double xDev = Math.abs((chunk.getPos().getBlockX(innerChunkX)) - craterCenter.getX());
-                double zDev = Math.abs((chunk.getPos().getBlockZ(innerChunkZ)) - craterCenter.getZ());
-                if (xDev >= 0 && xDev < 32 && zDev >= 0 && zDev < 32) {
-                    if (xDev * xDev + zDev * zDev < radius * radius) { //distance to crater and depth
-                        xDev /= radius;
-                        zDev /= radius;
-                        final double sqrtY = xDev * xDev + zDev * zDev;
-                        double yDev = sqrtY * sqrtY * 6;
-                        double craterDepth = 5 - yDev;
-                        craterDepth *= depthMultiplier;
-                        if (craterDepth > 0.0) {
-                            toDig = craterDepth;
-                        }
-                    }
+        byte[] depths = this.depthTables.computeIfAbsent(crater, Crater::createDepthTable);
+        BlockPos.MutableBlockPos mutable = new BlockPos.MutableBlockPos();
+        BlockPos.MutableBlockPos copy = new BlockPos.MutableBlockPos();
+        for (int x = minX; x <= maxX; x++) { //iterate through positions in chunk
+            for (int z = minZ; z <= maxZ; z++) {
+                int toDig = depths[crater.index(x, z)];
+                if (toDig == 0) continue;
 
-                    if (toDig >= 1) {
-                        toDig++; // Increase crater depth, but for sum, not each crater
-                        if (fresh) toDig++; // Dig one more block, because we're not replacing the top with turf
-                    }
-                    BlockPos.MutableBlockPos copy = new BlockPos.MutableBlockPos();
-                    mutable.set(innerChunkX, y, innerChunkZ);
-                    for (int dug = 0; dug < toDig; dug++) {
-                        mutable.move(Direction.DOWN);
-                        if (!chunk.getBlockState(mutable).isAir() || carvingMask.get(innerChunkX, mutable.getY() + 64, innerChunkZ) || dug > 0) {
-                            chunk.setBlockState(mutable, AIR, false);
-                            if (dug == 0) {
-                                carvingMask.set(innerChunkX, mutable.getY() + 64, innerChunkZ);
-                            }
-                            if (!fresh && dug + 1 >= toDig && !chunk.getBlockState(copy.set(mutable).move(Direction.DOWN, 2)).isAir()) {
-                                context.topMaterial(posToBiome, chunk, mutable, false).ifPresent(blockStatex -> chunk.setBlockState(mutable.move(Direction.DOWN), blockStatex, false));
-                            }
-                        } else {
-                            dug--;
+                int innerChunkX = x & 15;
+                int innerChunkZ = z & 15;
+                mutable.set(innerChunkX, crater.y(), innerChunkZ);
+                for (int dug = 0; dug < toDig; dug++) {
+                    mutable.move(Direction.DOWN);
+                    if (!chunk.getBlockState(mutable).isAir() || carvingMask.get(innerChunkX, mutable.getY() + 64, innerChunkZ) || dug > 0) {
+                        chunk.setBlockState(mutable, AIR, false);
+                        if (dug == 0) {
+                            carvingMask.set(innerChunkX, mutable.getY() + 64, innerChunkZ);
                         }
+                        if (!crater.fresh() && dug + 1 >= toDig && !chunk.getBlockState(copy.set(mutable).move(Direction.DOWN, 2)).isAir()) {
+                            context.topMaterial(posToBiome, chunk, mutable, false).ifPresent(blockStatex -> chunk.setBlockState(mutable.move(Direction.DOWN), blockStatex, false));
+                        }
+                    } else {
+                        dug--;
                     }
                 }
             }
@@ -111,4 +114,61 @@ public boolean carve(CarvingContext context, CraterCarverConfig config, ChunkAcc
     public boolean isStartChunk(CraterCarverConfig config, RandomSource random) {
         return random.nextFloat() <= config.probability;
     }
+
+    /**
+     * The parameters of a single crater. These only depend on the carver random of the start chunk, so the same crater
+     * is produced for every chunk it is carved into.
+     */
+    private record Crater(int x, int y, int z, double radius, double depthMultiplier, boolean fresh) {
+        private static Crater create(CarvingContext context, CraterCarverConfig config, RandomSource random, ChunkPos start) {
+            int y = config.y.sample(random, context);
+            int x = start.getBlockX(random.nextInt(16));
+            int z = start.getBlockZ(random.nextInt(16));
+
+            double radius = 8 + (random.nextDouble() * (config.maxRadius - config.minRadius));
+            if (random.nextBoolean() && radius < (config.minRadius + config.idealRangeOffset) || radius > (config.maxRadius - config.idealRangeOffset))
+                radius = 8 + (random.nextDouble() * (config.maxRadius - config.minRadius));
+            double depthMultiplier = 1 - ((random.nextDouble() - 0.5) * 0.3);
+            boolean fresh = random.nextInt(16) == 1;
+            return new Crater(x, y, z, radius, depthMultiplier, fresh);
+        }
+
+        /**
+         * {@return the largest horizontal distance (per axis) from the center that is carved}
+         */
+        private int reach() {
+            return Math.max(0, Math.min((int) Math.ceil(this.radius) - 1, MAX_REACH));
+        }
+
+        private int index(int x, int z) {
+            return Math.abs(x - this.x) * (this.reach() + 1) + Math.abs(z - this.z);
+        }
+
+        /**
+         * Computes the number of blocks to dig for one quadrant of the crater, as the depth is symmetric around its center.
+         */
+        private byte[] createDepthTable() {
+            int reach = this.reach();
+            byte[] depths = new byte[(reach + 1) * (reach + 1)];
+            for (int xOffset = 0; xOffset <= reach; xOffset++) {
+                for (int zOffset = 0; zOffset <= reach; zOffset++) {
+                    if (xOffset * xOffset + zOffset * zOffset >= this.radius * this.radius) continue; //distance to crater and depth
+
+                    double xDev = xOffset / this.radius;
+                    double zDev = zOffset / this.radius;
+                    final double sqrtY = xDev * xDev + zDev * zDev;
+                    double yDev = sqrtY * sqrtY * 6;
+                    double toDig = (5 - yDev) * this.depthMultiplier;
+                    if (toDig <= 0.0) continue;
+
+                    if (toDig >= 1) {
+                        toDig++; // Increase crater depth, but for sum, not each crater
+                        if (this.fresh) toDig++; // Dig one more block, because we're not replacing the top with turf
+                    }
+                    depths[xOffset * (reach + 1) + zOffset] = (byte) Math.ceil(toDig);
+                }
+            }
+            return depths;
+        }
+    }
 }
@@ -22,7 +22,6 @@
 
 package dev.galacticraft.mod.world.gen.spawner;
 
-import dev.galacticraft.api.universe.celestialbody.CelestialBody;
 import dev.galacticraft.mod.content.GCEntityTypes;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Holder;
@@ -54,8 +53,7 @@ public int tick(ServerLevel world, boolean spawnMonsters, boolean spawnAnimals)
             return 0;
          } else {
             this.ticksUntilNextSpawn += 10000 + random.nextInt(1000);
-            Holder<CelestialBody<?, ?>> holder = world.galacticraft$getCelestialBody();
-            long dayLength = holder != null ? holder.value().dayLength() : 24000;
+            long dayLength = world.galacticraft$getEnvironment().dayLength();
             long l = world.getDayTime() / dayLength;
             if (l >= 5L && world.isDay()) {
                if (random.nextInt(5) != 0) {
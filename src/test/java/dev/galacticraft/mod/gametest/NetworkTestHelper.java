@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2019-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.mod.gametest;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+/**
+ * Shared grid fixtures for the wire and pipe network tests.
+ *
+ * @param <N> the type of network under test
+ */
+public final class NetworkTestHelper<N> {
+    public static final int GRID_SIZE = 7;
+    private static final int GAP = GRID_SIZE / 2;
+
+    private final String name;
+    private final Block block;
+    private final Predicate<BlockEntity> isMember;
+    private final Function<BlockEntity, @Nullable N> network;
+    private final Predicate<N> isRemoved;
+    private final ToIntFunction<N> size;
+
+    public NetworkTestHelper(String name, Block block, Predicate<BlockEntity> isMember, Function<BlockEntity, @Nullable N> network, Predicate<N> isRemoved, ToIntFunction<N> size) {
+        this.name = name;
+        this.block = block;
+        this.isMember = isMember;
+        this.network = network;
+        this.isRemoved = isRemoved;
+        this.size = size;
+    }
+
+    /**
+     * Fills a cube of {@link #GRID_SIZE} blocks, optionally leaving out the middle plane so that it starts out as two separate networks.
+     */
+    public List<BlockPos> placeGrid(GameTestHelper context, boolean gap) {
+        List<BlockPos> grid = new ArrayList<>();
+        for (int x = 0; x < GRID_SIZE; x++) {
+            if (gap && x == GAP) continue;
+            for (int y = 1; y <= GRID_SIZE; y++) {
+                for (int z = 0; z < GRID_SIZE; z++) {
+                    BlockPos pos = new BlockPos(x, y, z);
+                    context.setBlock(pos, this.block);
+                    grid.add(pos);
+                }
+            }
+        }
+        return grid;
+    }
+
+    /**
+     * Bridges the gap left by {@link #placeGrid(GameTestHelper, boolean)} with a single column, joining both halves back together.
+     */
+    public List<BlockPos> placeBridge(GameTestHelper context, List<BlockPos> grid) {
+        List<BlockPos> bridge = new ArrayList<>();
+        for (int y = 1; y <= GRID_SIZE; y++) {
+            BlockPos pos = new BlockPos(GAP, y, 0);
+            context.setBlock(pos, this.block);
+            bridge.add(pos);
+        }
+        grid.addAll(bridge);
+        return bridge;
+    }
+
+    /**
+     * Cuts the grid into three pieces: the middle plane splits it in half, a second plane splits one of the halves again.
+     */
+    public void cutGrid(GameTestHelper context, List<BlockPos> grid) {
+        for (BlockPos pos : grid) {
+            if (pos.getX() == GAP || (pos.getX() < GAP && pos.getZ() == GAP)) {
+                context.destroyBlock(pos);
+            }
+        }
+    }
+
+    /**
+     * Flood fills the members that are present in the world and checks that every connected component maps to exactly one network.
+     */
+    public void assertNetworksMatchComponents(GameTestHelper context, List<BlockPos> candidates) {
+        Set<BlockPos> remaining = new HashSet<>();
+        for (BlockPos pos : candidates) {
+            BlockEntity blockEntity = context.getBlockEntity(pos);
+            if (blockEntity != null && this.isMember.test(blockEntity)) {
+                remaining.add(pos);
+            }
+        }
+
+        Set<N> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        while (!remaining.isEmpty()) {
+            BlockPos start = remaining.iterator().next();
+            N network = this.network.apply(context.getBlockEntity(start));
+            if (network == null || this.isRemoved.test(network)) {
+                context.fail(String.format("Expected a live %s network!", this.name), start);
+                return;
+            }
+            if (!seen.add(network)) {
+                context.fail(String.format("Expected disconnected %ss to be in separate networks!", this.name), start);
+                return;
+            }
+
+            int componentSize = 0;
+            ArrayDeque<BlockPos> queue = new ArrayDeque<>();
+            queue.add(start);
+            remaining.remove(start);
+            while (!queue.isEmpty()) {
+                BlockPos pos = queue.poll();
+                componentSize++;
+                if (this.network.apply(context.getBlockEntity(pos)) != network) {
+                    context.fail(String.format("Expected connected %ss to share a network!", this.name), pos);
+                    return;
+                }
+                for (Direction direction : Direction.values()) {
+                    BlockPos adjacent = pos.relative(direction);
+                    if (remaining.remove(adjacent)) {
+                        queue.add(adjacent);
+                    }
+                }
+            }
+
+            int networkSize = this.size.applyAsInt(network);
+            if (networkSize != componentSize) {
+                context.fail(String.format("Expected %1$s network with %2$s %1$ss but found %3$s %1$ss!", this.name, componentSize, networkSize), start);
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2019-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.mod.gametest;
+
+import dev.galacticraft.mod.accessor.ServerLevelAccessor;
+import dev.galacticraft.mod.machine.SealDetector;
+import dev.galacticraft.mod.world.dimension.GCDimensions;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.Blocks;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Oxygen tests. These run on the moon, as every position of the overworld is breathable already.
+ */
+public class OxygenTestSuite implements GalacticraftGameTest {
+    @GameTest(template = EMPTY_STRUCTURE)
+    public void bubbleBlockChangeTest(GameTestHelper context) {
+        ServerLevel level = getAirlessLevel(context);
+        if (level == null) return;
+
+        BlockPos center = prepare(level, 0);
+        LongArrayList bubble = new LongArrayList();
+        for (BlockPos pos : BlockPos.betweenClosed(center.offset(-2, -2, -2), center.offset(2, 2, 2))) {
+            if (pos.distSqr(center) <= 4) bubble.add(pos.asLong());
+        }
+
+        BlockPos pos = center.east();
+        ((ServerLevelAccessor) level).acquireOxygen(bubble);
+        level.setBlockAndUpdate(pos, Blocks.STONE.defaultBlockState());
+        level.setBlockAndUpdate(pos, Blocks.AIR.defaultBlockState());
+        boolean breathable = level.isBreathable(pos);
+        ((ServerLevelAccessor) level).releaseOxygen(bubble);
+
+        if (!breathable) {
+            context.fail("Expected the bubble to stay breathable after a block inside it changed!", pos);
+        } else if (level.isBreathable(pos)) {
+            context.fail("Expected the oxygen to be removed along with the bubble!", pos);
+        } else {
+            context.succeed();
+        }
+    }
+
+    @GameTest(template = EMPTY_STRUCTURE)
+    public void sealedRoomBlockChangeTest(GameTestHelper context) {
+        ServerLevel level = getAirlessLevel(context);
+        if (level == null) return;
+
+        BlockPos center = prepare(level, 32);
+        Iterable<BlockPos> walls = BlockPos.betweenClosed(center.offset(-2, -2, -2), center.offset(2, 2, 2));
+        for (BlockPos pos : walls) {
+            if (Math.abs(pos.getX() - center.getX()) == 2 || Math.abs(pos.getY() - center.getY()) == 2 || Math.abs(pos.getZ() - center.getZ()) == 2) {
+                level.setBlockAndUpdate(pos, Blocks.GLASS.defaultBlockState());
+            }
+        }
+
+        SealDetector seal = new SealDetector(64);
+        seal.start(center);
+        SealDetector.Result result = SealDetector.Result.IN_PROGRESS;
+        for (int i = 0; i < 16 && result == SealDetector.Result.IN_PROGRESS; i++) {
+            result = seal.step(level, 256);
+        }
+
+        BlockPos pos = center.west();
+        boolean sealed = result == SealDetector.Result.SEALED && level.isBreathable(pos);
+        level.setBlockAndUpdate(pos, Blocks.TORCH.defaultBlockState());
+        level.setBlockAndUpdate(pos, Blocks.AIR.defaultBlockState());
+        boolean breathable = level.isBreathable(pos);
+        seal.clear(level);
+        for (BlockPos wall : walls) {
+            level.setBlockAndUpdate(wall, Blocks.AIR.defaultBlockState());
+        }
+
+        if (!sealed) {
+            context.fail(String.format("Expected the room to be sealed but got %s!", result), pos);
+        } else if (!breathable) {
+            context.fail("Expected the sealed room to stay breathable after a block inside it changed!", pos);
+        } else if (level.isBreathable(pos)) {
+            context.fail("Expected the oxygen to be removed along with the seal!", pos);
+        } else {
+            context.succeed();
+        }
+    }
+
+    private static @Nullable ServerLevel getAirlessLevel(GameTestHelper context) {
+        ServerLevel level = context.getLevel().getServer().getLevel(GCDimensions.MOON);
+        if (level == null) {
+            context.fail("Expected the moon to be loaded!");
+        }
+        return level;
+    }
+
+    /**
+     * Loads an empty, unbreathable spot high above the terrain of the level.
+     */
+    private static BlockPos prepare(ServerLevel level, int x) {
+        BlockPos center = new BlockPos(x, level.getMaxBuildHeight() - 16, 0);
+        level.getChunk(SectionPos.blockToSectionCoord(center.getX()), SectionPos.blockToSectionCoord(center.getZ()));
+        return center;
+    }
+}
@@ -23,13 +23,22 @@
 package dev.galacticraft.mod.gametest;
 
 import dev.galacticraft.mod.api.pipe.Pipe;
+import dev.galacticraft.mod.api.pipe.PipeNetwork;
 import dev.galacticraft.mod.api.pipe.impl.PipeNetworkImpl;
 import dev.galacticraft.mod.content.GCBlocks;
 import net.minecraft.core.BlockPos;
 import net.minecraft.gametest.framework.GameTest;
 import net.minecraft.gametest.framework.GameTestHelper;
 
+import java.util.List;
+
 public class PipeTestSuite implements GalacticraftGameTest {
+    private final NetworkTestHelper<PipeNetwork> networks = new NetworkTestHelper<>("pipe", GCBlocks.GLASS_FLUID_PIPE,
+            blockEntity -> blockEntity instanceof Pipe,
+            blockEntity -> ((Pipe) blockEntity).getNetwork(),
+            PipeNetwork::markedForRemoval,
+            network -> ((PipeNetworkImpl) network).getPipes().size());
+
     @GameTest(template = EMPTY_STRUCTURE)
     public void pipeConnectionTest(GameTestHelper context) {
         final var pos0 = new BlockPos(0, 1, 0);
@@ -69,12 +78,10 @@ public void pipeConnectionTest(GameTestHelper context) {
                                 context.fail(String.format("Expected pipe network with 1 pipe but found %s pipes!", ((PipeNetworkImpl) pipe0.getNetwork()).getPipes().size()), pos0);
                             } else if (((PipeNetworkImpl) pipe2.getNetwork()).getPipes().size() != 1) {
                                 context.fail(String.format("Expected pipe network with 1 pipe but found %s pipes!", ((PipeNetworkImpl) pipe2.getNetwork()).getPipes().size()), pos2);
-                            } else if (!pipe1.getNetwork().markedForRemoval()) {
-                                if (!be1.isRemoved()) {
-                                    context.fail("Expected pipe to be removed!", pos1);
-                                } else {
-                                    context.fail("Expected removed pipe network to be marked for removal!", pos1);
-                                }
+                            } else if (!be1.isRemoved()) {
+                                context.fail("Expected pipe to be removed!", pos1);
+                            } else if (pipe1.getNetwork() != null) {
+                                context.fail("Expected removed pipe to be detached from its network!", pos1);
                             }
                         });
                     }
@@ -82,4 +89,39 @@ public void pipeConnectionTest(GameTestHelper context) {
             }
         }
     }
+
+    @GameTest(template = EMPTY_STRUCTURE)
+    public void pipeGridSplitTest(GameTestHelper context) {
+        List<BlockPos> grid = this.networks.placeGrid(context, false);
+        this.runNext(context, () -> {
+            this.networks.assertNetworksMatchComponents(context, grid);
+            this.networks.cutGrid(context, grid);
+            this.runFinalTaskNext(context, () -> this.networks.assertNetworksMatchComponents(context, grid));
+        });
+    }
+
+    @GameTest(template = EMPTY_STRUCTURE)
+    public void pipeGridRejoinTest(GameTestHelper context) {
+        List<BlockPos> grid = this.networks.placeGrid(context, true);
+        this.runNext(context, () -> {
+            this.networks.assertNetworksMatchComponents(context, grid);
+            this.networks.placeBridge(context, grid);
+            this.runFinalTaskNext(context, () -> this.networks.assertNetworksMatchComponents(context, grid));
+        });
+    }
+
+    @GameTest(template = EMPTY_STRUCTURE)
+    public void pipeGridSplitAfterRejoinTest(GameTestHelper context) {
+        List<BlockPos> grid = this.networks.placeGrid(context, true);
+        this.runNext(context, () -> {
+            this.networks.assertNetworksMatchComponents(context, grid);
+            this.networks.placeBridge(context, grid);
+            this.runNext(context, () -> {
+                this.networks.assertNetworksMatchComponents(context, grid);
+                // the links recorded while rejoining must be symmetric, otherwise the cut splits the networks incorrectly
+                this.networks.cutGrid(context, grid);
+                this.runFinalTaskNext(context, () -> this.networks.assertNetworksMatchComponents(context, grid));
+            });
+        });
+    }
 }
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2019-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package dev.galacticraft.mod.gametest;
+
+import dev.galacticraft.api.registry.RocketRegistries;
+import dev.galacticraft.api.rocket.RocketData;
+import dev.galacticraft.mod.Constant;
+import dev.galacticraft.mod.content.GCRocketParts;
+import io.netty.buffer.Unpooled;
+import net.minecraft.core.Registry;
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.nbt.NbtOps;
+import net.minecraft.nbt.Tag;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.resources.RegistryOps;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.item.EitherHolder;
+
+import java.util.Optional;
+
+/**
+ * Checks that {@link RocketData#STREAM_CODEC} agrees with {@link RocketData#CODEC} for every combination of present parts.
+ */
+public class RocketDataTestSuite implements GalacticraftGameTest {
+    private static final int PARTS = 6;
+
+    @GameTest(template = EMPTY_STRUCTURE)
+    public void registeredPartsRoundTripTest(GameTestHelper context) {
+        RegistryAccess access = context.getLevel().registryAccess();
+        RegistryOps<Tag> ops = access.createSerializationContext(NbtOps.INSTANCE);
+        for (int mask = 0; mask < 1 << PARTS; mask++) {
+            RocketData data = create(access, mask, true);
+            RocketData streamed = roundTrip(context, access, data);
+            if (streamed == null) return;
+
+            RocketData parsed = RocketData.CODEC.parse(ops, RocketData.CODEC.encodeStart(ops, data).getOrThrow()).getOrThrow();
+            if (!matches(data, streamed) || !matches(parsed, streamed)) {
+                context.fail(String.format("Expected %s to survive the stream codec like the NBT codec (%s) but got %s!", data, parsed, streamed));
+                return;
+            }
+            if (!hasHolders(streamed)) {
+                context.fail(String.format("Expected every registered part of %s to be resolved!", streamed));
+                return;
+            }
+        }
+        context.succeed();
+    }
+
+    @GameTest(template = EMPTY_STRUCTURE)
+    public void unregisteredPartsRoundTripTest(GameTestHelper context) {
+        RegistryAccess access = context.getLevel().registryAccess();
+        for (int mask = 0; mask < 1 << PARTS; mask++) {
+            RocketData data = create(access, mask, false);
+            RocketData streamed = roundTrip(context, access, data);
+            if (streamed == null) return;
+
+            if (!matches(data, streamed)) {
+                context.fail(String.format("Expected %s to survive the stream codec but got %s!", data, streamed));
+                return;
+            }
+        }
+        context.succeed();
+    }
+
+    private static RocketData roundTrip(GameTestHelper context, RegistryAccess access, RocketData data) {
+        RegistryFriendlyByteBuf buf = new RegistryFriendlyByteBuf(Unpooled.buffer(), access);
+        try {
+            RocketData.STREAM_CODEC.encode(buf, data);
+            RocketData decoded = RocketData.STREAM_CODEC.decode(buf);
+            if (buf.isReadable()) {
+                context.fail(String.format("Expected %s to be fully read but %s bytes were left!", data, buf.readableBytes()));
+                return null;
+            }
+            return decoded;
+        } finally {
+            buf.release();
+        }
+    }
+
+    /**
+     * Creates rocket data with the parts selected by {@code mask}, either as registered holders or as keys missing from the registries.
+     */
+    private static RocketData create(RegistryAccess access, int mask, boolean registered) {
+        return new RocketData(
+                part(access, mask, 0, RocketRegistries.ROCKET_CONE, GCRocketParts.TIER_1_CONE, registered),
+                part(access, mask, 1, RocketRegistries.ROCKET_BODY, GCRocketParts.TIER_1_BODY, registered),
+                part(access, mask, 2, RocketRegistries.ROCKET_FIN, GCRocketParts.TIER_1_FIN, registered),
+                part(access, mask, 3, RocketRegistries.ROCKET_BOOSTER, GCRocketParts.TIER_1_BOOSTER, registered),
+                part(access, mask, 4, RocketRegistries.ROCKET_ENGINE, GCRocketParts.TIER_1_ENGINE, registered),
+                part(access, mask, 5, RocketRegistries.ROCKET_UPGRADE, GCRocketParts.STORAGE_UPGRADE, registered),
+                0x80FF4020 ^ mask
+        );
+    }
+
+    private static <T> Optional<EitherHolder<T>> part(RegistryAccess access, int mask, int bit, ResourceKey<Registry<T>> registry, ResourceKey<T> key, boolean registered) {
+        if ((mask & 1 << bit) == 0) return Optional.empty();
+        if (registered) return Optional.of(new EitherHolder<>(access.registryOrThrow(registry).getHolderOrThrow(key)));
+        return Optional.of(new EitherHolder<>(ResourceKey.create(registry, Constant.id("missing_" + key.location().getPath()))));
+    }
+
+    private static boolean matches(RocketData expected, RocketData actual) {
+        return expected.color() == actual.color()
+                && matches(expected.cone(), actual.cone())
+                && matches(expected.body(), actual.body())
+                && matches(expected.fin(), actual.fin())
+                && matches(expected.booster(), actual.booster())
+                && matches(expected.engine(), actual.engine())
+                && matches(expected.upgrade(), actual.upgrade());
+    }
+
+    private static <T> boolean matches(Optional<EitherHolder<T>> expected, Optional<EitherHolder<T>> actual) {
+        return expected.map(EitherHolder::key).equals(actual.map(EitherHolder::key));
+    }
+
+    private static boolean hasHolders(RocketData data) {
+        return hasHolder(data.cone()) && hasHolder(data.body()) && hasHolder(data.fin())
+                && hasHolder(data.booster()) && hasHolder(data.engine()) && hasHolder(data.upgrade());
+    }
+
+    private static <T> boolean hasHolder(Optional<EitherHolder<T>> part) {
+        return part.isEmpty() || part.get().holder().isPresent();
+    }
+}
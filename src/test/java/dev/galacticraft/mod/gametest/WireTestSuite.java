@@ -23,13 +23,22 @@
 package dev.galacticraft.mod.gametest;
 
 import dev.galacticraft.mod.api.wire.Wire;
+import dev.galacticraft.mod.api.wire.WireNetwork;
 import dev.galacticraft.mod.api.wire.impl.WireNetworkImpl;
 import dev.galacticraft.mod.content.GCBlocks;
 import net.minecraft.core.BlockPos;
 import net.minecraft.gametest.framework.GameTest;
 import net.minecraft.gametest.framework.GameTestHelper;
 
+import java.util.List;
+
 public class WireTestSuite implements GalacticraftGameTest {
+    private final NetworkTestHelper<WireNetwork> networks = new NetworkTestHelper<>("wire", GCBlocks.ALUMINUM_WIRE,
+            blockEntity -> blockEntity instanceof Wire,
+            blockEntity -> ((Wire) blockEntity).getNetwork(),
+            WireNetwork::markedForRemoval,
+            network -> ((WireNetworkImpl) network).getWires().size());
+
     @GameTest(template = EMPTY_STRUCTURE)
     public void wireConnectionTest(GameTestHelper context) {
         final var pos0 = new BlockPos(0, 1, 0);
@@ -69,12 +78,10 @@ public void wireConnectionTest(GameTestHelper context) {
                                 context.fail(String.format("Expected wire network with 1 wire but found %s wires!", ((WireNetworkImpl) wire0.getNetwork()).getWires().size()), pos0);
                             } else if (((WireNetworkImpl) wire2.getNetwork()).getWires().size() != 1) {
                                 context.fail(String.format("Expected wire network with 1 wire but found %s wires!", ((WireNetworkImpl) wire2.getNetwork()).getWires().size()), pos2);
-                            } else if (!wire1.getNetwork().markedForRemoval()) {
-                                if (!be1.isRemoved()) {
-                                    context.fail("Expected wire to be removed!", pos1);
-                                } else {
-                                    context.fail("Expected removed wire network to be marked for removal!", pos1);
-                                }
+                            } else if (!be1.isRemoved()) {
+                                context.fail("Expected wire to be removed!", pos1);
+                            } else if (wire1.getNetwork() != null) {
+                                context.fail("Expected removed wire to be detached from its network!", pos1);
                             }
                         });
                     }
@@ -82,4 +89,39 @@ public void wireConnectionTest(GameTestHelper context) {
             }
         }
     }
+
+    @GameTest(template = EMPTY_STRUCTURE)
+    public void wireGridSplitTest(GameTestHelper context) {
+        List<BlockPos> grid = this.networks.placeGrid(context, false);
+        this.runNext(context, () -> {
+            this.networks.assertNetworksMatchComponents(context, grid);
+            this.networks.cutGrid(context, grid);
+            this.runFinalTaskNext(context, () -> this.networks.assertNetworksMatchComponents(context, grid));
+        });
+    }
+
+    @GameTest(template = EMPTY_STRUCTURE)
+    public void wireGridRejoinTest(GameTestHelper context) {
+        List<BlockPos> grid = this.networks.placeGrid(context, true);
+        this.runNext(context, () -> {
+            this.networks.assertNetworksMatchComponents(context, grid);
+            this.networks.placeBridge(context, grid);
+            this.runFinalTaskNext(context, () -> this.networks.assertNetworksMatchComponents(context, grid));
+        });
+    }
+
+    @GameTest(template = EMPTY_STRUCTURE)
+    public void wireGridSplitAfterRejoinTest(GameTestHelper context) {
+        List<BlockPos> grid = this.networks.placeGrid(context, true);
+        this.runNext(context, () -> {
+            this.networks.assertNetworksMatchComponents(context, grid);
+            this.networks.placeBridge(context, grid);
+            this.runNext(context, () -> {
+                this.networks.assertNetworksMatchComponents(context, grid);
+                // the links recorded while rejoining must be symmetric, otherwise the cut splits the networks incorrectly
+                this.networks.cutGrid(context, grid);
+                this.runFinalTaskNext(context, () -> this.networks.assertNetworksMatchComponents(context, grid));
+            });
+        });
+    }
 }